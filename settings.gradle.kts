@@ -1,3 +1,4 @@
 rootProject.name = "zoun-admin-spring"
 
 include("zoun-admin-demo")
+include("zoun-admin-benchmarks")
@@ -0,0 +1,213 @@
+package io.xcodebn.zounadminspring.bulk;
+
+import io.xcodebn.zounadminspring.config.AdminUIProperties;
+import io.xcodebn.zounadminspring.core.EntityReflectionService;
+import io.xcodebn.zounadminspring.core.FieldMetadata;
+import io.xcodebn.zounadminspring.core.ModelMetadata;
+import io.xcodebn.zounadminspring.query.SearchService;
+import io.xcodebn.zounadminspring.web.TypeConverter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+/**
+ * Executes bulk delete and bulk "set field" actions as set-based statements.
+ * The selection is processed in chunks of {@code bulk-chunk-size} IDs, each chunk being one
+ * {@code DELETE/UPDATE ... WHERE id IN (...)} statement in its own transaction, so large
+ * selections neither load entities nor hold long transactions.
+ * Like all bulk statements, these bypass entity lifecycle callbacks and cascades.
+ */
+@Service
+public class BulkActionService {
+
+    private final EntityManager entityManager;
+    private final EntityReflectionService reflectionService;
+    private final SearchService searchService;
+    private final TypeConverter typeConverter;
+    private final AdminUIProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkActionService(EntityManager entityManager,
+                             EntityReflectionService reflectionService,
+                             SearchService searchService,
+                             TypeConverter typeConverter,
+                             AdminUIProperties properties,
+                             PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.reflectionService = reflectionService;
+        this.searchService = searchService;
+        this.typeConverter = typeConverter;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Delete the selected rows.
+     * Selected IDs whose rows no longer exist, e.g. deleted since the page was shown, are not counted.
+     *
+     * @return the number of rows deleted
+     */
+    public long delete(ModelMetadata metadata, BulkSelection selection) {
+        return forEachChunk(metadata, selection, ids -> transactionTemplate.execute(
+                status -> executeDelete(metadata.entityClass(), ids)));
+    }
+
+    /**
+     * Set a field of the selected rows to a value.
+     * The value is converted to the field type; for a to-one relationship it is the related ID.
+     * Numeric {@code @Version} attributes are incremented so optimistic locking stays correct.
+     *
+     * @return the number of rows updated
+     */
+    public long update(ModelMetadata metadata, BulkSelection selection, String fieldName, String value) {
+        FieldMetadata field = getUpdatableFields(metadata.entityClass()).stream()
+                .filter(f -> f.name().equals(fieldName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Cannot bulk update field: " + fieldName));
+
+        Object converted = field.isRelationship()
+                ? convertRelatedId(field, value)
+                : typeConverter.convert(value, field.type());
+        if (converted == null && field.type().isPrimitive()) {
+            throw new IllegalArgumentException("A value is required for field: " + fieldName);
+        }
+
+        return forEachChunk(metadata, selection, ids -> transactionTemplate.execute(
+                status -> executeUpdate(metadata.entityClass(), field, converted, ids)));
+    }
+
+    /**
+     * Get the fields that can be set by a bulk update: editable, non-LOB fields and to-one relationships.
+     */
+    public List<FieldMetadata> getUpdatableFields(Class<?> entityClass) {
+        return reflectionService.getMetadata(entityClass).editableFields().stream()
+                .filter(f -> !f.isLob())
+                .filter(f -> !f.isRelationship() || f.relationshipMetadata().isToOne())
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private int executeDelete(Class<?> entityClass, List<Object> ids) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaDelete<Object> delete = cb.createCriteriaDelete((Class<Object>) entityClass);
+        Root<Object> root = delete.from((Class<Object>) entityClass);
+
+        delete.where(root.get(requireIdField(entityClass).name()).in(ids));
+        return entityManager.createQuery(delete).executeUpdate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private int executeUpdate(Class<?> entityClass, FieldMetadata field, Object value, List<Object> ids) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Object> update = cb.createCriteriaUpdate((Class<Object>) entityClass);
+        Root<Object> root = update.from((Class<Object>) entityClass);
+
+        Object fieldValue = value;
+        if (field.isRelationship() && value != null) {
+            fieldValue = entityManager.getReference(field.relationshipMetadata().targetEntity(), value);
+        }
+        update.set(root.<Object>get(field.name()), fieldValue);
+
+        findNumericVersion(entityClass).ifPresent(version -> {
+            Path<Number> versionPath = root.get(version.getName());
+            update.set(versionPath, cb.sum(versionPath, 1));
+        });
+
+        update.where(root.get(requireIdField(entityClass).name()).in(ids));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    /**
+     * Run an action over the selected IDs, one chunk at a time.
+     * In "all matching" mode the IDs are read page by page in ID order, seeking past the last ID.
+     */
+    private long forEachChunk(ModelMetadata metadata, BulkSelection selection, ToIntFunction<List<Object>> action) {
+        int chunkSize = properties.getBulkChunkSize();
+        long affected = 0;
+
+        if (!selection.allMatching()) {
+            List<Object> ids = selection.ids();
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                affected += action.applyAsInt(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+            }
+            return affected;
+        }
+
+        Specification<Object> filter = searchService.toSpecification(metadata, selection.search()).orElse(null);
+        Object after = null;
+        while (true) {
+            List<Object> ids = selectIds(metadata.entityClass(), filter, after, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            affected += action.applyAsInt(ids);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+            after = ids.get(ids.size() - 1);
+        }
+        return affected;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<Object> selectIds(Class<?> entityClass, Specification<Object> filter, Object after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> criteria = cb.createQuery(Object.class);
+        Root<Object> root = criteria.from((Class<Object>) entityClass);
+        Path<Comparable> idPath = root.get(requireIdField(entityClass).name());
+
+        List<Predicate> predicates = new ArrayList<>(2);
+        if (filter != null) {
+            predicates.add(filter.toPredicate(root, criteria, cb));
+        }
+        if (after != null) {
+            predicates.add(cb.greaterThan(idPath, (Comparable) after));
+        }
+
+        criteria.select(idPath)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(idPath));
+
+        return entityManager.createQuery(criteria)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(SpecHints.HINT_SPEC_QUERY_TIMEOUT, properties.getSearchTimeout().toMillis())
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private Object convertRelatedId(FieldMetadata field, String value) {
+        FieldMetadata targetId = requireIdField(field.relationshipMetadata().targetEntity());
+        return typeConverter.convert(value, targetId.type());
+    }
+
+    private FieldMetadata requireIdField(Class<?> entityClass) {
+        return reflectionService.getMetadata(entityClass).getIdField()
+                .orElseThrow(() -> new IllegalArgumentException("Model has no ID field: " + entityClass.getSimpleName()));
+    }
+
+    private Optional<SingularAttribute<?, ?>> findNumericVersion(Class<?> entityClass) {
+        return entityManager.getMetamodel().entity(entityClass).getSingularAttributes().stream()
+                .filter(SingularAttribute::isVersion)
+                .filter(a -> Number.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(a.getJavaType())))
+                .<SingularAttribute<?, ?>>map(a -> a)
+                .findFirst();
+    }
+}
@@ -0,0 +1,31 @@
+package io.xcodebn.zounadminspring.bulk;
+
+import java.util.List;
+
+/**
+ * The rows a bulk action applies to: either explicit IDs, or every row matching a list search.
+ *
+ * @param ids         selected IDs, used unless {@code allMatching} is set
+ * @param allMatching whether to select every row matching {@code search}
+ * @param search      list search term, or null/blank for all rows
+ */
+public record BulkSelection(
+    List<Object> ids,
+    boolean allMatching,
+    String search
+) {
+
+    /**
+     * Select explicit IDs.
+     */
+    public static BulkSelection ofIds(List<Object> ids) {
+        return new BulkSelection(List.copyOf(ids), false, null);
+    }
+
+    /**
+     * Select every row matching a search term.
+     */
+    public static BulkSelection allMatching(String search) {
+        return new BulkSelection(List.of(), true, search);
+    }
+}
@@ -0,0 +1,13 @@
+package io.xcodebn.zounadminspring.bulk;
+
+/**
+ * A row of an import that was not stored.
+ *
+ * @param row    1-based number of the data row in the input (header excluded)
+ * @param reason why the row was rejected
+ */
+public record ImportRejection(
+    long row,
+    String reason
+) {
+}
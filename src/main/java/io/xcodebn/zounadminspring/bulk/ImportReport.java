@@ -0,0 +1,43 @@
+package io.xcodebn.zounadminspring.bulk;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import.
+ *
+ * @param importedRows number of rows stored
+ * @param rejectedRows number of rows that were not stored
+ * @param rejections   the first rejected rows with their reasons
+ * @param checkpoint   number of input rows fully processed (stored or rejected); pass it as the
+ *                     start row to resume an interrupted import without duplicating rows
+ * @param elapsed      time taken
+ * @param failure      why the import stopped before the end of the input, or null if it completed
+ * @param batched      whether inserts were sent in JDBC batches; false for models whose IDs are
+ *                     generated by the database on insert, which are inserted one statement per row
+ */
+public record ImportReport(
+    long importedRows,
+    long rejectedRows,
+    List<ImportRejection> rejections,
+    long checkpoint,
+    Duration elapsed,
+    String failure,
+    boolean batched
+) {
+
+    /**
+     * Check whether the whole input was processed.
+     */
+    public boolean completed() {
+        return failure == null;
+    }
+
+    /**
+     * Get the import throughput in stored rows per second.
+     */
+    public long rowsPerSecond() {
+        long millis = Math.max(elapsed.toMillis(), 1);
+        return importedRows * 1000 / millis;
+    }
+}
@@ -0,0 +1,350 @@
+package io.xcodebn.zounadminspring.bulk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.xcodebn.zounadminspring.config.AdminUIProperties;
+import io.xcodebn.zounadminspring.core.EntityReflectionService;
+import io.xcodebn.zounadminspring.core.FieldMetadata;
+import io.xcodebn.zounadminspring.core.ModelMetadata;
+import io.xcodebn.zounadminspring.query.DataFormat;
+import io.xcodebn.zounadminspring.util.CsvReader;
+import io.xcodebn.zounadminspring.web.FormDataBinder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.generator.Generator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imports CSV or JSON lines into a model in chunks.
+ * Each chunk is bound with {@link FormDataBinder}, persisted and committed in one transaction
+ * with JDBC batching enabled on the session. Hibernate cannot batch inserts of entities whose ID
+ * is generated by the insert itself ({@code GenerationType.IDENTITY}): each row of those models
+ * is inserted by its own statement, which the report and the log state. Related entities are resolved to references,
+ * cached per chunk, instead of being loaded. If a chunk fails, its rows are retried one by one
+ * so only the offending rows are rejected.
+ */
+@Service
+public class ImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportService.class);
+
+    /**
+     * Maximum number of rejected rows listed in a report; all of them are counted.
+     */
+    private static final int MAX_REPORTED_REJECTIONS = 1000;
+
+    private final EntityManager entityManager;
+    private final EntityReflectionService reflectionService;
+    private final FormDataBinder formDataBinder;
+    private final ObjectMapper objectMapper;
+    private final AdminUIProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public ImportService(EntityManager entityManager,
+                         EntityReflectionService reflectionService,
+                         FormDataBinder formDataBinder,
+                         ObjectMapper objectMapper,
+                         AdminUIProperties properties,
+                         PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.reflectionService = reflectionService;
+        this.formDataBinder = formDataBinder;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Import rows into a model.
+     * Columns are matched to fields by name; to-one relationships expect the related ID.
+     * A generated ID column is ignored, so every row creates a new entity.
+     *
+     * @param startRow number of leading data rows to skip, e.g. the checkpoint of an interrupted import
+     */
+    public ImportReport importRows(ModelMetadata metadata, DataFormat format, InputStream input, long startRow) {
+        long startTime = System.nanoTime();
+        ImportProgress progress = new ImportProgress(startRow);
+        String idColumn = generatedIdField(metadata.entityClass());
+        int chunkSize = properties.getImportChunkSize();
+        boolean batched = !isIdGeneratedOnInsert(metadata.entityClass());
+        if (!batched) {
+            log.info("Import into {} runs without JDBC batching: its IDs are generated by the database on insert",
+                     metadata.modelName());
+        }
+
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        long rowNumber = 0;
+        String failure = null;
+
+        try (Reader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            Iterator<Map<String, String>> rows = format == DataFormat.CSV
+                    ? new CsvRows(new CsvReader(reader))
+                    : new JsonLinesRows(objectMapper.readerFor(JsonNode.class).readValues(reader));
+
+            while (rows.hasNext()) {
+                Map<String, String> values = rows.next();
+                if (++rowNumber <= startRow) {
+                    continue;
+                }
+                if (idColumn != null) {
+                    values.remove(idColumn);
+                }
+                chunk.add(new ImportRow(rowNumber, values));
+                if (chunk.size() == chunkSize) {
+                    importChunk(metadata, chunk, batched, progress);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Unreadable input; rows read before the error are still imported below
+            failure = "Stopped after row " + rowNumber + ": " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            log.warn("Import into {} stopped: {}", metadata.modelName(), failure);
+        }
+
+        if (!chunk.isEmpty()) {
+            importChunk(metadata, chunk, batched, progress);
+        }
+
+        return new ImportReport(progress.imported, progress.rejected, List.copyOf(progress.rejections),
+                                progress.checkpoint, Duration.ofNanos(System.nanoTime() - startTime), failure,
+                                batched);
+    }
+
+    /**
+     * Store a chunk in one transaction, falling back to one transaction per row if it fails.
+     *
+     * @param batched whether the chunk's inserts can be sent as one JDBC batch
+     */
+    private void importChunk(ModelMetadata metadata, List<ImportRow> chunk, boolean batched, ImportProgress progress) {
+        List<ImportRejection> bindingRejections = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (batched) {
+                    entityManager.unwrap(Session.class).setJdbcBatchSize(chunk.size());
+                }
+                Map<ReferenceKey, Object> references = new HashMap<>();
+                for (ImportRow row : chunk) {
+                    Object entity;
+                    try {
+                        entity = bind(metadata, row, references);
+                    } catch (Exception e) {
+                        bindingRejections.add(reject(row, e));
+                        continue;
+                    }
+                    entityManager.persist(entity);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (RuntimeException e) {
+            log.debug("Chunk ending at row {} failed, retrying row by row: {}",
+                      chunk.get(chunk.size() - 1).number(), e.getMessage());
+            importRowByRow(metadata, chunk, progress);
+            return;
+        }
+
+        progress.imported += chunk.size() - bindingRejections.size();
+        bindingRejections.forEach(progress::reject);
+        progress.checkpoint = chunk.get(chunk.size() - 1).number();
+    }
+
+    private void importRowByRow(ModelMetadata metadata, List<ImportRow> chunk, ImportProgress progress) {
+        for (ImportRow row : chunk) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    try {
+                        entityManager.persist(bind(metadata, row, new HashMap<>()));
+                    } catch (Exception e) {
+                        throw new ImportRowException(e);
+                    }
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                progress.imported++;
+            } catch (ImportRowException e) {
+                progress.reject(reject(row, e.getCause()));
+            } catch (RuntimeException e) {
+                progress.reject(reject(row, e));
+            }
+            progress.checkpoint = row.number();
+        }
+    }
+
+    private Object bind(ModelMetadata metadata, ImportRow row, Map<ReferenceKey, Object> references) throws Exception {
+        @SuppressWarnings("unchecked")
+        Class<Object> entityClass = (Class<Object>) metadata.entityClass();
+        return formDataBinder.bind(row.values(), null, null, entityClass,
+                (targetModel, id) -> references.computeIfAbsent(
+                        new ReferenceKey(targetModel.entityClass(), id),
+                        key -> entityManager.getReference(key.entityClass(), key.id())));
+    }
+
+    private static ImportRejection reject(ImportRow row, Throwable e) {
+        String reason = e.getMessage();
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        if (cause != e && cause.getMessage() != null) {
+            reason = reason != null ? reason + ": " + cause.getMessage() : cause.getMessage();
+        }
+        return new ImportRejection(row.number(), reason);
+    }
+
+    /**
+     * Check whether the ID of an entity is generated by its INSERT statement, e.g. an identity
+     * column, in which case Hibernate executes each insert immediately and never batches them.
+     */
+    private boolean isIdGeneratedOnInsert(Class<?> entityClass) {
+        Generator generator = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getGenerator();
+        return generator != null && generator.generatedOnExecution();
+    }
+
+    /**
+     * Get the name of the ID field if its value is generated, otherwise null.
+     */
+    private String generatedIdField(Class<?> entityClass) {
+        return reflectionService.getMetadata(entityClass).getIdField()
+                .map(FieldMetadata::name)
+                .filter(name -> {
+                    Field field = ReflectionUtils.findField(entityClass, name);
+                    return field != null && field.isAnnotationPresent(GeneratedValue.class);
+                })
+                .orElse(null);
+    }
+
+    private record ImportRow(long number, Map<String, String> values) {
+    }
+
+    private record ReferenceKey(Class<?> entityClass, Object id) {
+    }
+
+    /**
+     * Running totals of an import.
+     */
+    private static final class ImportProgress {
+
+        private long imported;
+        private long rejected;
+        private long checkpoint;
+        private final List<ImportRejection> rejections = new ArrayList<>();
+
+        ImportProgress(long startRow) {
+            this.checkpoint = startRow;
+        }
+
+        void reject(ImportRejection rejection) {
+            rejected++;
+            if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                rejections.add(rejection);
+            }
+        }
+    }
+
+    /**
+     * Carries a checked binding exception out of a transaction callback.
+     */
+    private static final class ImportRowException extends RuntimeException {
+
+        ImportRowException(Throwable cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * CSV records as maps keyed by the header row; blank lines are skipped.
+     */
+    private static final class CsvRows implements Iterator<Map<String, String>> {
+
+        private final CsvReader csv;
+        private final List<String> header;
+        private List<String> next;
+
+        CsvRows(CsvReader csv) throws IOException {
+            this.csv = csv;
+            this.header = csv.readRow();
+            this.next = header != null ? readNext() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map<String, String> next() {
+            List<String> values = next;
+            Map<String, String> row = new LinkedHashMap<>();
+            for (int i = 0; i < header.size() && i < values.size(); i++) {
+                row.put(header.get(i).trim(), values.get(i));
+            }
+            try {
+                next = readNext();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return row;
+        }
+
+        private List<String> readNext() throws IOException {
+            List<String> values;
+            do {
+                values = csv.readRow();
+            } while (values != null && values.size() == 1 && values.get(0).isEmpty());
+            return values;
+        }
+    }
+
+    /**
+     * JSON lines as maps of field name to text value.
+     */
+    private static final class JsonLinesRows implements Iterator<Map<String, String>> {
+
+        private final MappingIterator<JsonNode> nodes;
+
+        JsonLinesRows(MappingIterator<JsonNode> nodes) {
+            this.nodes = nodes;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nodes.hasNext();
+        }
+
+        @Override
+        public Map<String, String> next() {
+            JsonNode node = nodes.next();
+            Map<String, String> row = new LinkedHashMap<>();
+            node.fields().forEachRemaining(field -> {
+                JsonNode value = field.getValue();
+                row.put(field.getKey(), value.isNull() ? null : value.isValueNode() ? value.asText() : value.toString());
+            });
+            return row;
+        }
+    }
+}
@@ -1,20 +1,40 @@
 package io.xcodebn.zounadminspring.config;
 
-import io.xcodebn.zounadminspring.core.AdminModelRegistry;
-import io.xcodebn.zounadminspring.core.EntityReflectionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.xcodebn.zounadminspring.metrics.AdminMetrics;
+import io.xcodebn.zounadminspring.metrics.MicrometerAdminMetrics;
+import io.xcodebn.zounadminspring.query.AdminSessionEventListener;
+import io.xcodebn.zounadminspring.query.AdminStatementInspector;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
 
 /**
  * Auto-configuration for the Zoun Admin UI.
  * Activates only when zoun.admin.ui.enabled=true in application properties.
+ * Runs after the Actuator metrics auto-configuration so its {@link MeterRegistry} is visible.
  */
-@AutoConfiguration
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
 @ConditionalOnProperty(prefix = "zoun.admin.ui", name = "enabled", havingValue = "true")
 @EnableConfigurationProperties(AdminUIProperties.class)
 @ComponentScan(basePackages = "io.xcodebn.zounadminspring")
@@ -25,4 +45,111 @@ public class AdminAutoConfiguration {
     public AdminAutoConfiguration() {
         log.info("Zoun Admin UI is enabled and initializing...");
     }
+
+    /**
+     * Register the admin statement inspector with Hibernate, chaining any inspector
+     * the host application already configured.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer adminStatementInspectorCustomizer() {
+        return hibernateProperties -> {
+            Object existing = hibernateProperties.get(AvailableSettings.STATEMENT_INSPECTOR);
+            StatementInspector delegate = switch (existing) {
+                case null -> null;
+                case StatementInspector inspector -> inspector;
+                case Class<?> inspectorClass -> (StatementInspector) BeanUtils.instantiateClass(inspectorClass);
+                default -> (StatementInspector) BeanUtils.instantiateClass(
+                        ClassUtils.resolveClassName(existing.toString(), getClass().getClassLoader()));
+            };
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new AdminStatementInspector(delegate));
+        };
+    }
+
+    /**
+     * Register the admin session event listener with Hibernate to time statements.
+     * Hibernate accepts a single such listener, so one configured by the host application is kept.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer adminSessionEventListenerCustomizer() {
+        return hibernateProperties -> {
+            Object existing = hibernateProperties.putIfAbsent(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                                                              AdminSessionEventListener.class.getName());
+            if (existing != null) {
+                log.info("Keeping the configured {}; admin statement timings are not recorded",
+                         AvailableSettings.AUTO_SESSION_EVENTS_LISTENER);
+            }
+        };
+    }
+
+    /**
+     * Metrics that record nothing, unless Micrometer metrics are registered below.
+     */
+    @Bean
+    @ConditionalOnMissingBean(AdminMetrics.class)
+    public AdminMetrics adminMetrics() {
+        return AdminMetrics.NOOP;
+    }
+
+    /**
+     * Record admin metrics with Micrometer when the application has a {@link MeterRegistry}.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class MicrometerMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnBean(MeterRegistry.class)
+        @ConditionalOnMissingBean(AdminMetrics.class)
+        public AdminMetrics micrometerAdminMetrics(MeterRegistry meterRegistry) {
+            return new MicrometerAdminMetrics(meterRegistry);
+        }
+    }
+
+    /**
+     * Run admin reads on the application's persistence unit, unless an isolated one is configured below.
+     */
+    @Bean
+    @ConditionalOnMissingBean(AdminPersistence.class)
+    public AdminPersistence adminPersistence(EntityManagerFactory entityManagerFactory,
+                                             EntityManager entityManager,
+                                             PlatformTransactionManager transactionManager,
+                                             ObjectProvider<DataSource> dataSource) {
+        return AdminPersistence.shared(entityManagerFactory, entityManager, transactionManager,
+                                       dataSource.getIfUnique());
+    }
+
+    /**
+     * Run admin reads on their own connection pool when zoun.admin.ui.datasource.enabled=true.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "zoun.admin.ui.datasource", name = "enabled", havingValue = "true")
+    static class IsolatedPersistenceConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(AdminPersistence.class)
+        public AdminPersistence isolatedAdminPersistence(EntityManagerFactory entityManagerFactory,
+                                                         DataSource dataSource,
+                                                         AdminUIProperties properties,
+                                                         ListableBeanFactory beanFactory) {
+            log.info("Admin reads use a dedicated connection pool of at most {} connections",
+                     properties.getDatasource().getMaximumPoolSize());
+            return AdminPersistence.isolated(entityManagerFactory, dataSource, properties.getDatasource(),
+                                             findMeterRegistry(beanFactory));
+        }
+
+        /**
+         * Find the application's {@link MeterRegistry} for the pool metrics, without loading
+         * Micrometer classes when it is absent. The admin pool is not a bean, so Spring Boot
+         * does not bind it.
+         */
+        private static Object findMeterRegistry(ListableBeanFactory beanFactory) {
+            String meterRegistryClass = "io.micrometer.core.instrument.MeterRegistry";
+            ClassLoader classLoader = AdminAutoConfiguration.class.getClassLoader();
+            if (!ClassUtils.isPresent(meterRegistryClass, classLoader)) {
+                return null;
+            }
+            return beanFactory.getBeanProvider(ClassUtils.resolveClassName(meterRegistryClass, classLoader))
+                    .getIfUnique();
+        }
+    }
 }
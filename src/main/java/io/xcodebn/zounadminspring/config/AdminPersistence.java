@@ -0,0 +1,241 @@
+package io.xcodebn.zounadminspring.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.xcodebn.zounadminspring.query.ReadRouting;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.ManagedType;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The persistence unit and transaction manager used by admin reads.
+ * By default these are the application's own. With {@code zoun.admin.ui.datasource.enabled=true}
+ * they are a separate Hikari pool and a persistence unit over the same entities, created and
+ * closed with this bean and not registered as beans, so the application's auto-configuration
+ * and injection points are unaffected.
+ * <p>
+ * With {@code zoun.admin.ui.datasource.replica=true} the pool connects to a read replica, and
+ * reads of a session that wrote within {@code read-your-writes-window} use the application's
+ * data source instead (see {@link ReadRouting}).
+ */
+public class AdminPersistence implements DisposableBean {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final boolean isolated;
+    private final boolean replicaRouting;
+    private final int maximumPoolSize;
+    private final LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private final HikariDataSource dataSource;
+
+    private AdminPersistence(EntityManagerFactory entityManagerFactory,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             LocalContainerEntityManagerFactoryBean entityManagerFactoryBean,
+                             HikariDataSource dataSource,
+                             boolean replicaRouting,
+                             int maximumPoolSize) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.entityManager = entityManager;
+        this.transactionManager = transactionManager;
+        this.isolated = entityManagerFactoryBean != null;
+        this.replicaRouting = replicaRouting;
+        this.maximumPoolSize = maximumPoolSize;
+        this.entityManagerFactoryBean = entityManagerFactoryBean;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Use the application's persistence unit and transaction manager.
+     */
+    public static AdminPersistence shared(EntityManagerFactory entityManagerFactory,
+                                          EntityManager entityManager,
+                                          PlatformTransactionManager transactionManager) {
+        return shared(entityManagerFactory, entityManager, transactionManager, null);
+    }
+
+    /**
+     * Use the application's persistence unit and transaction manager.
+     *
+     * @param applicationDataSource the application's data source, whose size bounds concurrent admin
+     *                              reads if it is a Hikari pool, or null
+     */
+    public static AdminPersistence shared(EntityManagerFactory entityManagerFactory,
+                                          EntityManager entityManager,
+                                          PlatformTransactionManager transactionManager,
+                                          DataSource applicationDataSource) {
+        int maximumPoolSize = applicationDataSource instanceof HikariDataSource application
+                ? application.getMaximumPoolSize()
+                : 0;
+        return new AdminPersistence(entityManagerFactory, entityManager, transactionManager, null, null, false,
+                                    maximumPoolSize);
+    }
+
+    /**
+     * Create a separate pool and persistence unit with the entities and Hibernate settings of the
+     * application's persistence unit. Schema generation is disabled for the copy.
+     *
+     * @param applicationEntityManagerFactory the application's persistence unit
+     * @param applicationDataSource           the application's data source, whose connection settings are
+     *                                        the defaults if it is a Hikari pool
+     * @param meterRegistry                   a Micrometer {@code MeterRegistry} recording the pool metrics, or null
+     */
+    public static AdminPersistence isolated(EntityManagerFactory applicationEntityManagerFactory,
+                                            DataSource applicationDataSource,
+                                            AdminUIProperties.AdminDataSourceProperties settings,
+                                            Object meterRegistry) {
+        HikariDataSource dataSource = createDataSource(applicationDataSource, settings);
+        if (meterRegistry != null) {
+            dataSource.setMetricRegistry(meterRegistry);
+        }
+        try {
+            LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+            factoryBean.setPersistenceUnitName("zoun-admin");
+            factoryBean.setDataSource(settings.isReplica()
+                                              ? new ReplicaRoutingDataSource(dataSource, applicationDataSource)
+                                              : dataSource);
+            factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factoryBean.setManagedTypes(PersistenceManagedTypes.of(managedClassNames(applicationEntityManagerFactory), List.of()));
+            factoryBean.setJpaPropertyMap(jpaProperties(applicationEntityManagerFactory, settings));
+            factoryBean.afterPropertiesSet();
+
+            EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+            return new AdminPersistence(entityManagerFactory,
+                                        SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory),
+                                        new JpaTransactionManager(entityManagerFactory),
+                                        factoryBean,
+                                        dataSource,
+                                        settings.isReplica(),
+                                        settings.getMaximumPoolSize());
+        } catch (RuntimeException e) {
+            dataSource.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Get the persistence unit of admin reads.
+     */
+    public EntityManagerFactory getEntityManagerFactory() {
+        return entityManagerFactory;
+    }
+
+    /**
+     * Get the shared, thread-bound entity manager for admin reads.
+     */
+    public EntityManager getEntityManager() {
+        return entityManager;
+    }
+
+    /**
+     * Get the transaction manager of the admin read persistence unit.
+     */
+    public PlatformTransactionManager getTransactionManager() {
+        return transactionManager;
+    }
+
+    /**
+     * Check whether admin reads use their own pool.
+     */
+    public boolean isIsolated() {
+        return isolated;
+    }
+
+    /**
+     * Check whether admin reads go to a replica, except reads of sessions that just wrote.
+     */
+    public boolean isReplicaRouting() {
+        return replicaRouting;
+    }
+
+    /**
+     * Get the maximum number of connections admin reads can hold at once, or 0 if unknown.
+     */
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    @Override
+    public void destroy() {
+        if (entityManagerFactoryBean != null) {
+            entityManagerFactoryBean.destroy();
+        }
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    private static HikariDataSource createDataSource(DataSource applicationDataSource,
+                                                     AdminUIProperties.AdminDataSourceProperties settings) {
+        HikariDataSource dataSource = new HikariDataSource();
+        if (applicationDataSource instanceof HikariDataSource application) {
+            dataSource.setJdbcUrl(application.getJdbcUrl());
+            dataSource.setUsername(application.getUsername());
+            dataSource.setPassword(application.getPassword());
+            if (application.getDriverClassName() != null) {
+                dataSource.setDriverClassName(application.getDriverClassName());
+            }
+        }
+        if (settings.getUrl() != null) {
+            dataSource.setJdbcUrl(settings.getUrl());
+        }
+        if (settings.getUsername() != null) {
+            dataSource.setUsername(settings.getUsername());
+        }
+        if (settings.getPassword() != null) {
+            dataSource.setPassword(settings.getPassword());
+        }
+        if (dataSource.getJdbcUrl() == null) {
+            throw new IllegalArgumentException(
+                    "zoun.admin.ui.datasource.url is required when the application does not use a Hikari pool");
+        }
+        dataSource.setPoolName("zoun-admin");
+        dataSource.setMaximumPoolSize(settings.getMaximumPoolSize());
+        dataSource.setReadOnly(settings.isReadOnly());
+        return dataSource;
+    }
+
+    private static List<String> managedClassNames(EntityManagerFactory entityManagerFactory) {
+        return entityManagerFactory.getMetamodel().getManagedTypes().stream()
+                .map(ManagedType::getJavaType)
+                .filter(Objects::nonNull)
+                .filter(type -> type != Map.class)
+                .map(Class::getName)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Copy the Hibernate settings of the application's persistence unit (dialect, naming
+     * strategies, statement inspector, ...), except its connection and schema settings.
+     */
+    private static Map<String, Object> jpaProperties(EntityManagerFactory entityManagerFactory,
+                                                     AdminUIProperties.AdminDataSourceProperties settings) {
+        Map<String, Object> properties = new HashMap<>();
+        entityManagerFactory.getProperties().forEach((key, value) -> {
+            if (key.startsWith("hibernate.") && !key.startsWith("hibernate.connection.")
+                    && !key.startsWith("hibernate.hbm2ddl.") && value != null) {
+                properties.put(key, value);
+            }
+        });
+        properties.put(AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, "none");
+        properties.put(AvailableSettings.HBM2DDL_AUTO, "none");
+        properties.put(SpecHints.HINT_SPEC_QUERY_TIMEOUT, settings.getStatementTimeout().toMillis());
+        return properties;
+    }
+}
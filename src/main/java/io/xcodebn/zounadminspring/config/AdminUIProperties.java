@@ -1,7 +1,16 @@
 package io.xcodebn.zounadminspring.config;
 
+import io.xcodebn.zounadminspring.query.CountStrategy;
+import io.xcodebn.zounadminspring.query.PaginationMode;
+import io.xcodebn.zounadminspring.query.QueryBudgetAction;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Configuration properties for the Zoun Admin UI.
  * Allows customization of the admin panel behavior and appearance.
@@ -51,6 +60,156 @@ public class AdminUIProperties {
      */
     private int maxFileSizeMb = 10;
 
+    /**
+     * Load list views with a column-projected query over the visible list columns only,
+     * instead of hydrating full entities (LOB columns are never read).
+     * Default: true
+     */
+    private boolean listProjection = true;
+
+    /**
+     * Read list pages and exports through a Hibernate StatelessSession, without a persistence
+     * context. Entity-mode list pages can then only show attributes the list query fetched.
+     * Default: false
+     */
+    private boolean statelessReads = false;
+
+    /**
+     * Show debug information, such as the number of SQL statements a page ran.
+     * Default: false
+     */
+    private boolean debug = false;
+
+    /**
+     * Maximum number of SQL statements an admin request may execute, or 0 for no budget.
+     * Default: 50
+     */
+    private int queryBudget = 50;
+
+    /**
+     * What happens when a request exceeds the query budget: WARN (log a warning)
+     * or FAIL (fail the request).
+     * Default: WARN
+     */
+    private QueryBudgetAction queryBudgetAction = QueryBudgetAction.WARN;
+
+    /**
+     * Number of times a statement shape may repeat within one request before it is
+     * reported as a likely N+1 fetch.
+     * Default: 5
+     */
+    private int repeatedStatementThreshold = 5;
+
+    /**
+     * Pagination mode of list views: OFFSET (page numbers and totals) or
+     * KEYSET (cursor-based, constant cost per page, no totals).
+     * Default: OFFSET
+     */
+    private PaginationMode paginationMode = PaginationMode.OFFSET;
+
+    /**
+     * Maximum number of options returned per page by relationship lookups.
+     * Default: 20
+     */
+    private int lookupPageSize = 20;
+
+    /**
+     * Maximum number of relationship label queries run at once across all form requests, each on its own
+     * connection. Lowered to one less than the size of the admin reads' pool when it is not below it.
+     * Default: 4
+     */
+    private int lookupConcurrency = 4;
+
+    /**
+     * Query timeout of each relationship label query of a form; a label not read in time shows the ID.
+     * Default: 2s
+     */
+    private Duration lookupTimeout = Duration.ofSeconds(2);
+
+    /**
+     * How list views count rows: EXACT (COUNT(*) per page), CACHED (COUNT(*) cached
+     * for count-cache-ttl and invalidated on admin writes) or APPROXIMATE (database statistics).
+     * Default: EXACT
+     */
+    private CountStrategy countStrategy = CountStrategy.EXACT;
+
+    /**
+     * How long a CACHED row count is reused.
+     * Default: 60s
+     */
+    private Duration countCacheTtl = Duration.ofSeconds(60);
+
+    /**
+     * Maximum number of list pages kept in the list page cache, or 0 to disable it.
+     * Only projected list pages are cached. Default: 0
+     */
+    private int listCacheSize = 0;
+
+    /**
+     * How long a cached list page is reused, unless a write to its model invalidates it earlier.
+     * Default: 30s
+     */
+    private Duration listCacheTtl = Duration.ofSeconds(30);
+
+    /**
+     * Show row counts of every model on the dashboard, computed in the background.
+     * Default: true
+     */
+    private boolean dashboardCounts = true;
+
+    /**
+     * How long a dashboard count is shown before it is recomputed in the background,
+     * unless a write to its model invalidates it earlier.
+     * Default: 60s
+     */
+    private Duration dashboardCountTtl = Duration.ofSeconds(60);
+
+    /**
+     * Query timeout of each dashboard count.
+     * Default: 2s
+     */
+    private Duration dashboardCountTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Maximum number of dashboard count queries running at once, each holding a connection.
+     * Default: 4
+     */
+    private int dashboardCountConcurrency = 4;
+
+    /**
+     * Query timeout of list searches, so a slow search cannot hold a connection.
+     * Default: 5s
+     */
+    private Duration searchTimeout = Duration.ofSeconds(5);
+
+    /**
+     * JDBC fetch size used when streaming rows for exports.
+     * Default: 1000
+     */
+    private int exportFetchSize = 1000;
+
+    /**
+     * Number of rows per transaction and JDBC batch when importing.
+     * Default: 500
+     */
+    private int importChunkSize = 500;
+
+    /**
+     * Number of IDs per statement (and transaction) of bulk delete and update actions.
+     * Default: 1000
+     */
+    private int bulkChunkSize = 1000;
+
+    /**
+     * Optional connection pool used only by admin reads.
+     */
+    private AdminDataSourceProperties datasource = new AdminDataSourceProperties();
+
+    /**
+     * Per-model settings, keyed by model (entity simple) name.
+     */
+    private Map<String, ModelProperties> models = new LinkedHashMap<>();
+
     // Getters and Setters
 
     public boolean isEnabled() {
@@ -108,4 +267,450 @@ public class AdminUIProperties {
     public void setMaxFileSizeMb(int maxFileSizeMb) {
         this.maxFileSizeMb = maxFileSizeMb;
     }
+
+    public boolean isListProjection() {
+        return listProjection;
+    }
+
+    public void setListProjection(boolean listProjection) {
+        this.listProjection = listProjection;
+    }
+
+    public boolean isStatelessReads() {
+        return statelessReads;
+    }
+
+    public void setStatelessReads(boolean statelessReads) {
+        this.statelessReads = statelessReads;
+    }
+
+    public boolean isDebug() {
+        return debug;
+    }
+
+    public void setDebug(boolean debug) {
+        this.debug = debug;
+    }
+
+    public int getQueryBudget() {
+        return queryBudget;
+    }
+
+    public void setQueryBudget(int queryBudget) {
+        this.queryBudget = queryBudget;
+    }
+
+    public QueryBudgetAction getQueryBudgetAction() {
+        return queryBudgetAction;
+    }
+
+    public void setQueryBudgetAction(QueryBudgetAction queryBudgetAction) {
+        this.queryBudgetAction = queryBudgetAction;
+    }
+
+    public int getRepeatedStatementThreshold() {
+        return repeatedStatementThreshold;
+    }
+
+    public void setRepeatedStatementThreshold(int repeatedStatementThreshold) {
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    public PaginationMode getPaginationMode() {
+        return paginationMode;
+    }
+
+    public void setPaginationMode(PaginationMode paginationMode) {
+        this.paginationMode = paginationMode;
+    }
+
+    /**
+     * Get the pagination mode of a model, falling back to the global mode.
+     */
+    public PaginationMode getPaginationMode(String modelName) {
+        PaginationMode modelMode = getModel(modelName).getPaginationMode();
+        return modelMode != null ? modelMode : paginationMode;
+    }
+
+    public int getLookupPageSize() {
+        return lookupPageSize;
+    }
+
+    public void setLookupPageSize(int lookupPageSize) {
+        this.lookupPageSize = lookupPageSize;
+    }
+
+    public int getLookupConcurrency() {
+        return lookupConcurrency;
+    }
+
+    public void setLookupConcurrency(int lookupConcurrency) {
+        this.lookupConcurrency = lookupConcurrency;
+    }
+
+    public Duration getLookupTimeout() {
+        return lookupTimeout;
+    }
+
+    public void setLookupTimeout(Duration lookupTimeout) {
+        this.lookupTimeout = lookupTimeout;
+    }
+
+    public CountStrategy getCountStrategy() {
+        return countStrategy;
+    }
+
+    public void setCountStrategy(CountStrategy countStrategy) {
+        this.countStrategy = countStrategy;
+    }
+
+    /**
+     * Get the count strategy of a model, falling back to the global strategy.
+     */
+    public CountStrategy getCountStrategy(String modelName) {
+        CountStrategy modelStrategy = getModel(modelName).getCountStrategy();
+        return modelStrategy != null ? modelStrategy : countStrategy;
+    }
+
+    public Duration getCountCacheTtl() {
+        return countCacheTtl;
+    }
+
+    public void setCountCacheTtl(Duration countCacheTtl) {
+        this.countCacheTtl = countCacheTtl;
+    }
+
+    public int getListCacheSize() {
+        return listCacheSize;
+    }
+
+    public void setListCacheSize(int listCacheSize) {
+        this.listCacheSize = listCacheSize;
+    }
+
+    public Duration getListCacheTtl() {
+        return listCacheTtl;
+    }
+
+    public void setListCacheTtl(Duration listCacheTtl) {
+        this.listCacheTtl = listCacheTtl;
+    }
+
+    public boolean isDashboardCounts() {
+        return dashboardCounts;
+    }
+
+    public void setDashboardCounts(boolean dashboardCounts) {
+        this.dashboardCounts = dashboardCounts;
+    }
+
+    public Duration getDashboardCountTtl() {
+        return dashboardCountTtl;
+    }
+
+    public void setDashboardCountTtl(Duration dashboardCountTtl) {
+        this.dashboardCountTtl = dashboardCountTtl;
+    }
+
+    public Duration getDashboardCountTimeout() {
+        return dashboardCountTimeout;
+    }
+
+    public void setDashboardCountTimeout(Duration dashboardCountTimeout) {
+        this.dashboardCountTimeout = dashboardCountTimeout;
+    }
+
+    public int getDashboardCountConcurrency() {
+        return dashboardCountConcurrency;
+    }
+
+    public void setDashboardCountConcurrency(int dashboardCountConcurrency) {
+        this.dashboardCountConcurrency = dashboardCountConcurrency;
+    }
+
+    public Duration getSearchTimeout() {
+        return searchTimeout;
+    }
+
+    public void setSearchTimeout(Duration searchTimeout) {
+        this.searchTimeout = searchTimeout;
+    }
+
+    public int getExportFetchSize() {
+        return exportFetchSize;
+    }
+
+    public void setExportFetchSize(int exportFetchSize) {
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    public int getImportChunkSize() {
+        return importChunkSize;
+    }
+
+    public void setImportChunkSize(int importChunkSize) {
+        this.importChunkSize = importChunkSize;
+    }
+
+    public int getBulkChunkSize() {
+        return bulkChunkSize;
+    }
+
+    public void setBulkChunkSize(int bulkChunkSize) {
+        this.bulkChunkSize = bulkChunkSize;
+    }
+
+    public AdminDataSourceProperties getDatasource() {
+        return datasource;
+    }
+
+    public void setDatasource(AdminDataSourceProperties datasource) {
+        this.datasource = datasource;
+    }
+
+    public Map<String, ModelProperties> getModels() {
+        return models;
+    }
+
+    public void setModels(Map<String, ModelProperties> models) {
+        this.models = models;
+    }
+
+    /**
+     * Get the settings of a model, or defaults if none were configured.
+     */
+    public ModelProperties getModel(String modelName) {
+        return models.getOrDefault(modelName, ModelProperties.DEFAULTS);
+    }
+
+    /**
+     * Settings of the admin-only connection pool. When enabled, admin reads (lists, searches,
+     * counts, lookups, exports, downloads and edit forms) use their own pool and persistence
+     * unit, so heavy admin traffic cannot starve the application's pool. Writes keep using the
+     * application's repositories and transactions.
+     */
+    public static class AdminDataSourceProperties {
+
+        /**
+         * Use a separate pool for admin reads.
+         * Default: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * JDBC URL of the admin pool.
+         * Default: the URL of the application's Hikari pool
+         */
+        private String url;
+
+        /**
+         * Database user of the admin pool.
+         * Default: the user of the application's Hikari pool
+         */
+        private String username;
+
+        /**
+         * Database password of the admin pool.
+         * Default: the password of the application's Hikari pool
+         */
+        private String password;
+
+        /**
+         * Maximum number of connections of the admin pool.
+         * Default: 2
+         */
+        private int maximumPoolSize = 2;
+
+        /**
+         * Default timeout of every admin query; shorter per-query timeouts still apply.
+         * Default: 30s
+         */
+        private Duration statementTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Open admin connections read-only.
+         * Default: true
+         */
+        private boolean readOnly = true;
+
+        /**
+         * The admin pool connects to a read replica. Reads of a session within
+         * read-your-writes-window of its last write use the application's data source instead.
+         * Default: false
+         */
+        private boolean replica = false;
+
+        /**
+         * How long after a write request a session's admin reads go to the primary,
+         * which should exceed the usual replica lag.
+         * Default: 5s
+         */
+        private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+
+        public Duration getStatementTimeout() {
+            return statementTimeout;
+        }
+
+        public void setStatementTimeout(Duration statementTimeout) {
+            this.statementTimeout = statementTimeout;
+        }
+
+        public boolean isReadOnly() {
+            return readOnly;
+        }
+
+        public void setReadOnly(boolean readOnly) {
+            this.readOnly = readOnly;
+        }
+
+        public boolean isReplica() {
+            return replica;
+        }
+
+        public void setReplica(boolean replica) {
+            this.replica = replica;
+        }
+
+        public Duration getReadYourWritesWindow() {
+            return readYourWritesWindow;
+        }
+
+        public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+            this.readYourWritesWindow = readYourWritesWindow;
+        }
+    }
+
+    /**
+     * Settings that can be configured per model.
+     */
+    public static class ModelProperties {
+
+        private static final ModelProperties DEFAULTS = new ModelProperties();
+
+        /**
+         * Field used as the display label in relationship pickers.
+         * Default: auto-detected (name, title, label, ... or the first text field)
+         */
+        private String labelField;
+
+        /**
+         * Pagination mode of this model's list view.
+         * Default: the global pagination mode
+         */
+        private PaginationMode paginationMode;
+
+        /**
+         * Count strategy of this model's list view.
+         * Default: the global count strategy
+         */
+        private CountStrategy countStrategy;
+
+        /**
+         * Fields matched by the list search.
+         * Default: all visible text, enum and numeric fields
+         */
+        private List<String> searchFields = new ArrayList<>();
+
+        /**
+         * Text fields matched anywhere in the value instead of by prefix.
+         * Contains matching cannot use a regular index on the column.
+         * Default: none
+         */
+        private List<String> containsSearchFields = new ArrayList<>();
+
+        /**
+         * Date or timestamp field holding when a row was last changed, used to show the
+         * number of rows changed today on the dashboard.
+         * Default: none
+         */
+        private String changedAtField;
+
+        public String getLabelField() {
+            return labelField;
+        }
+
+        public void setLabelField(String labelField) {
+            this.labelField = labelField;
+        }
+
+        public PaginationMode getPaginationMode() {
+            return paginationMode;
+        }
+
+        public void setPaginationMode(PaginationMode paginationMode) {
+            this.paginationMode = paginationMode;
+        }
+
+        public CountStrategy getCountStrategy() {
+            return countStrategy;
+        }
+
+        public void setCountStrategy(CountStrategy countStrategy) {
+            this.countStrategy = countStrategy;
+        }
+
+        public List<String> getSearchFields() {
+            return searchFields;
+        }
+
+        public void setSearchFields(List<String> searchFields) {
+            this.searchFields = searchFields;
+        }
+
+        public List<String> getContainsSearchFields() {
+            return containsSearchFields;
+        }
+
+        public void setContainsSearchFields(List<String> containsSearchFields) {
+            this.containsSearchFields = containsSearchFields;
+        }
+
+        public String getChangedAtField() {
+            return changedAtField;
+        }
+
+        public void setChangedAtField(String changedAtField) {
+            this.changedAtField = changedAtField;
+        }
+    }
 }
@@ -0,0 +1,58 @@
+package io.xcodebn.zounadminspring.config;
+
+import io.xcodebn.zounadminspring.core.AdminModelRegistry;
+import io.xcodebn.zounadminspring.metrics.AdminMetrics;
+import io.xcodebn.zounadminspring.web.ReadYourWritesInterceptor;
+import io.xcodebn.zounadminspring.web.StatementStatisticsInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC configuration for the Zoun Admin UI.
+ * Registers the admin interceptors for URLs under the configured base path.
+ * With an admin-only pool, admin requests also keep an admin entity manager open while
+ * rendering, as the application's open-in-view does for its own persistence unit, and with a
+ * replica they read from the primary shortly after their session wrote.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "zoun.admin.ui", name = "enabled", havingValue = "true")
+public class AdminWebConfiguration implements WebMvcConfigurer {
+
+    private final AdminUIProperties properties;
+    private final AdminMetrics metrics;
+    private final AdminModelRegistry modelRegistry;
+    private final AdminPersistence persistence;
+
+    public AdminWebConfiguration(AdminUIProperties properties,
+                                 AdminMetrics metrics,
+                                 AdminModelRegistry modelRegistry,
+                                 AdminPersistence persistence) {
+        this.properties = properties;
+        this.metrics = metrics;
+        this.modelRegistry = modelRegistry;
+        this.persistence = persistence;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        String basePath = properties.getBasePath();
+
+        registry.addInterceptor(new StatementStatisticsInterceptor(properties, metrics, modelRegistry))
+                .addPathPatterns(basePath, basePath + "/**");
+
+        if (persistence.isIsolated()) {
+            OpenEntityManagerInViewInterceptor openInView = new OpenEntityManagerInViewInterceptor();
+            openInView.setEntityManagerFactory(persistence.getEntityManagerFactory());
+            registry.addWebRequestInterceptor(openInView)
+                    .addPathPatterns(basePath, basePath + "/**");
+        }
+
+        if (persistence.isReplicaRouting()) {
+            registry.addInterceptor(new ReadYourWritesInterceptor(properties))
+                    .addPathPatterns(basePath, basePath + "/**");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.xcodebn.zounadminspring.config;
+
+import io.xcodebn.zounadminspring.query.ReadRouting;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Data source of the admin persistence unit in replica mode: connections come from the replica
+ * pool, or from the application's data source while the current thread
+ * {@link ReadRouting#isReadingFromPrimary() reads from the primary}.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    ReplicaRoutingDataSource(DataSource replica, DataSource primary) {
+        setTargetDataSources(Map.<Object, Object>of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(replica);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ReadRouting.isReadingFromPrimary() ? PRIMARY : REPLICA;
+    }
+}
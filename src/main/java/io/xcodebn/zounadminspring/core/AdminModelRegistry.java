@@ -23,10 +23,13 @@ public class AdminModelRegistry {
     private static final Logger log = LoggerFactory.getLogger(AdminModelRegistry.class);
 
     private final ApplicationContext applicationContext;
+    private final EntityReflectionService reflectionService;
     private final Map<String, ModelMetadata> modelRegistry = new LinkedHashMap<>();
 
-    public AdminModelRegistry(ApplicationContext applicationContext) {
+    public AdminModelRegistry(ApplicationContext applicationContext,
+                              EntityReflectionService reflectionService) {
         this.applicationContext = applicationContext;
+        this.reflectionService = reflectionService;
     }
 
     /**
@@ -85,6 +88,10 @@ public class AdminModelRegistry {
         );
 
         modelRegistry.put(modelName, metadata);
+
+        // Precompute field metadata so requests never hit reflection
+        reflectionService.getMetadata(entityClass);
+
         log.debug("Registered entity '{}' with ID type '{}' from repository '{}'",
                   modelName, idClass.getSimpleName(), beanName);
     }
@@ -110,6 +117,16 @@ public class AdminModelRegistry {
         return modelRegistry.containsKey(modelName);
     }
 
+    /**
+     * Rebuild the cached field metadata of all registered entities
+     * (e.g. after dev-time class reloading).
+     */
+    public void refreshMetadata() {
+        reflectionService.invalidateAll();
+        modelRegistry.values().forEach(m -> reflectionService.getMetadata(m.entityClass()));
+        log.info("Refreshed field metadata for {} entities", modelRegistry.size());
+    }
+
     /**
      * Get the total number of registered entities.
      */
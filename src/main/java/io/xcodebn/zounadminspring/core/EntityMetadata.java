@@ -0,0 +1,34 @@
+package io.xcodebn.zounadminspring.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Precomputed, immutable metadata for a single entity class.
+ * Built once per entity by {@link EntityReflectionService} and reused on every request,
+ * so hot paths only pay for a map lookup instead of re-walking the class via reflection.
+ */
+public record EntityMetadata(
+    Class<?> entityClass,
+    List<FieldMetadata> fields,
+    Map<String, FieldMetadata> fieldsByName,
+    List<FieldMetadata> listFields,
+    List<FieldMetadata> editableFields,
+    List<FieldMetadata> toOneRelationships
+) {
+
+    /**
+     * Get the metadata of a field by name.
+     */
+    public Optional<FieldMetadata> getField(String fieldName) {
+        return Optional.ofNullable(fieldsByName.get(fieldName));
+    }
+
+    /**
+     * Get the metadata of the identifier field, if the entity declares one.
+     */
+    public Optional<FieldMetadata> getIdField() {
+        return fields.stream().filter(FieldMetadata::isId).findFirst();
+    }
+}
@@ -1,5 +1,6 @@
 package io.xcodebn.zounadminspring.core;
 
+import io.xcodebn.zounadminspring.util.FieldAccessors;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import org.springframework.stereotype.Service;
@@ -11,18 +12,97 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.Temporal;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service that uses reflection to inspect JPA entities and extract field metadata.
  * Identifies field types, relationships, validation annotations, and other attributes.
+ * Results are cached per entity class; see {@link #getMetadata(Class)}.
  */
 @Service
 public class EntityReflectionService {
 
+    /**
+     * Maximum number of columns shown in list views.
+     */
+    private static final int MAX_LIST_COLUMNS = 10;
+
+    private final Map<Class<?>, EntityMetadata> metadataCache = new ConcurrentHashMap<>();
+
+    /**
+     * Get the cached metadata for an entity class, building it on first access.
+     */
+    public EntityMetadata getMetadata(Class<?> entityClass) {
+        return metadataCache.computeIfAbsent(entityClass, this::buildMetadata);
+    }
+
     /**
      * Inspect an entity class and return metadata for all its fields.
+     * The returned list is immutable and shared between callers.
      */
     public List<FieldMetadata> inspect(Class<?> entityClass) {
+        return getMetadata(entityClass).fields();
+    }
+
+    /**
+     * Drop the cached metadata for an entity class (e.g. after dev-time class reloading).
+     */
+    public void invalidate(Class<?> entityClass) {
+        metadataCache.remove(entityClass);
+        FieldAccessors.invalidate(entityClass);
+    }
+
+    /**
+     * Drop all cached entity metadata.
+     */
+    public void invalidateAll() {
+        metadataCache.keySet().forEach(FieldAccessors::invalidate);
+        metadataCache.clear();
+    }
+
+    /**
+     * Build the immutable metadata and its derived views for an entity class.
+     */
+    private EntityMetadata buildMetadata(Class<?> entityClass) {
+        List<FieldMetadata> fields = inspectFields(entityClass);
+
+        // Compile field accessors alongside the metadata
+        FieldAccessors.forClass(entityClass);
+
+        Map<String, FieldMetadata> fieldsByName = new LinkedHashMap<>();
+        for (FieldMetadata field : fields) {
+            fieldsByName.putIfAbsent(field.name(), field);
+        }
+
+        List<FieldMetadata> listFields = fields.stream()
+                .filter(FieldMetadata::isVisible)
+                .filter(f -> !f.isLob()) // Don't show LOB fields in table
+                .filter(f -> !f.isRelationship() || f.relationshipMetadata().isToOne()) // Collections would load per row
+                .limit(MAX_LIST_COLUMNS) // Limit columns to avoid clutter
+                .toList();
+
+        List<FieldMetadata> editableFields = fields.stream()
+                .filter(FieldMetadata::isEditable)
+                .toList();
+
+        List<FieldMetadata> toOneRelationships = fields.stream()
+                .filter(f -> f.isRelationship() && f.relationshipMetadata().isToOne())
+                .toList();
+
+        return new EntityMetadata(
+            entityClass,
+            fields,
+            Collections.unmodifiableMap(fieldsByName),
+            listFields,
+            editableFields,
+            toOneRelationships
+        );
+    }
+
+    /**
+     * Reflect on all fields of an entity class.
+     */
+    private List<FieldMetadata> inspectFields(Class<?> entityClass) {
         List<FieldMetadata> fieldMetadataList = new ArrayList<>();
 
         // Get all declared fields including inherited ones
@@ -39,7 +119,7 @@ public class EntityReflectionService {
             fm -> fm.order() != null ? fm.order() : Integer.MAX_VALUE
         ));
 
-        return fieldMetadataList;
+        return List.copyOf(fieldMetadataList);
     }
 
     /**
@@ -297,7 +377,7 @@ public class EntityReflectionService {
         addIfPresent(annotations, field, Negative.class);
         addIfPresent(annotations, field, NegativeOrZero.class);
 
-        return annotations;
+        return Map.copyOf(annotations);
     }
 
     /**
@@ -0,0 +1,64 @@
+package io.xcodebn.zounadminspring.metrics;
+
+/**
+ * Records what the admin panel costs, per model and {@link AdminOperation}.
+ * All methods do nothing by default; see {@link #NOOP}, used when no Micrometer
+ * {@code MeterRegistry} is available.
+ */
+public interface AdminMetrics {
+
+    /**
+     * Metrics that record nothing.
+     */
+    AdminMetrics NOOP = new AdminMetrics() {
+    };
+
+    /**
+     * Record the time spent handling a request before its response is rendered,
+     * which for admin requests is mostly spent in queries.
+     */
+    default void recordQuery(String modelName, AdminOperation operation, long nanos) {
+    }
+
+    /**
+     * Record the time spent rendering a view or streaming a response body.
+     */
+    default void recordRender(String modelName, AdminOperation operation, long nanos) {
+    }
+
+    /**
+     * Record the number of SQL statements executed for one request.
+     */
+    default void recordStatements(String modelName, AdminOperation operation, int statements) {
+    }
+
+    /**
+     * Record rows returned, written or affected.
+     */
+    default void recordRows(String modelName, AdminOperation operation, long rows) {
+    }
+
+    /**
+     * Record bytes streamed, e.g. of a LOB download.
+     */
+    default void recordBytes(String modelName, AdminOperation operation, long bytes) {
+    }
+
+    /**
+     * Record a list page served from the list page cache.
+     */
+    default void recordListCacheHit(String modelName) {
+    }
+
+    /**
+     * Record a list page that was not cached, or whose cached copy was stale, and was loaded.
+     */
+    default void recordListCacheMiss(String modelName) {
+    }
+
+    /**
+     * Record a list page removed from the cache, because it was stale, expired or least recently used.
+     */
+    default void recordListCacheEviction(String modelName) {
+    }
+}
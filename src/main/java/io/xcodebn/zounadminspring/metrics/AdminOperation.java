@@ -0,0 +1,27 @@
+package io.xcodebn.zounadminspring.metrics;
+
+import java.util.Locale;
+
+/**
+ * Admin operations that metrics are recorded for, used as the {@code operation} tag.
+ */
+public enum AdminOperation {
+
+    LIST,
+    FORM,
+    LOOKUP,
+    SAVE,
+    DELETE,
+    DOWNLOAD,
+    EXPORT,
+    IMPORT;
+
+    private final String tagValue = name().toLowerCase(Locale.ROOT);
+
+    /**
+     * Get the value of the {@code operation} tag, e.g. "list".
+     */
+    public String getTagValue() {
+        return tagValue;
+    }
+}
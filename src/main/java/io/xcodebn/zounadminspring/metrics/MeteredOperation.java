@@ -0,0 +1,19 @@
+package io.xcodebn.zounadminspring.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an admin handler method whose request timings and statement count are recorded
+ * under the given operation. The model is taken from the {@code modelName} path variable.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MeteredOperation {
+
+    AdminOperation value();
+}
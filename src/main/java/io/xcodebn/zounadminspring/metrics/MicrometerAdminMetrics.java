@@ -0,0 +1,156 @@
+package io.xcodebn.zounadminspring.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AdminMetrics} backed by a Micrometer {@link MeterRegistry}.
+ * Meters are tagged with {@code model} and {@code operation}. They are registered on first
+ * use and kept per model in an array indexed by operation, so recording does not allocate.
+ *
+ * <ul>
+ *   <li>{@code zoun.admin.query} - timer, handling time before rendering</li>
+ *   <li>{@code zoun.admin.render} - timer, view rendering or response streaming time</li>
+ *   <li>{@code zoun.admin.statements} - distribution summary, SQL statements per request</li>
+ *   <li>{@code zoun.admin.rows} - counter, rows returned, written or affected</li>
+ *   <li>{@code zoun.admin.bytes} - counter, bytes streamed</li>
+ *   <li>{@code zoun.admin.list.cache.gets} - counter, list page cache lookups, tagged
+ *       {@code model} and {@code result} ({@code hit} or {@code miss})</li>
+ *   <li>{@code zoun.admin.list.cache.evictions} - counter, list pages removed from the cache, tagged {@code model}</li>
+ * </ul>
+ */
+public class MicrometerAdminMetrics implements AdminMetrics {
+
+    private static final AdminOperation[] OPERATIONS = AdminOperation.values();
+
+    private final MeterRegistry registry;
+    private final Map<String, OperationMeters[]> metersByModel = new ConcurrentHashMap<>();
+    private final Map<String, CacheMeters> cacheMetersByModel = new ConcurrentHashMap<>();
+
+    public MicrometerAdminMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void recordQuery(String modelName, AdminOperation operation, long nanos) {
+        meters(modelName, operation).query.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordRender(String modelName, AdminOperation operation, long nanos) {
+        meters(modelName, operation).render.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordStatements(String modelName, AdminOperation operation, int statements) {
+        meters(modelName, operation).statements.record(statements);
+    }
+
+    @Override
+    public void recordRows(String modelName, AdminOperation operation, long rows) {
+        meters(modelName, operation).rows.increment(rows);
+    }
+
+    @Override
+    public void recordBytes(String modelName, AdminOperation operation, long bytes) {
+        meters(modelName, operation).bytes.increment(bytes);
+    }
+
+    @Override
+    public void recordListCacheHit(String modelName) {
+        cacheMeters(modelName).hits.increment();
+    }
+
+    @Override
+    public void recordListCacheMiss(String modelName) {
+        cacheMeters(modelName).misses.increment();
+    }
+
+    @Override
+    public void recordListCacheEviction(String modelName) {
+        cacheMeters(modelName).evictions.increment();
+    }
+
+    private CacheMeters cacheMeters(String modelName) {
+        return cacheMetersByModel.computeIfAbsent(modelName, m -> new CacheMeters(registry, m));
+    }
+
+    private OperationMeters meters(String modelName, AdminOperation operation) {
+        OperationMeters[] forModel = metersByModel.computeIfAbsent(modelName, m -> new OperationMeters[OPERATIONS.length]);
+        OperationMeters meters = forModel[operation.ordinal()];
+        if (meters == null) {
+            // A racing thread may register the same meters; the registry returns the existing ones
+            meters = new OperationMeters(registry, modelName, operation);
+            forModel[operation.ordinal()] = meters;
+        }
+        return meters;
+    }
+
+    /**
+     * The meters of one model and operation.
+     */
+    private static final class OperationMeters {
+
+        private final Timer query;
+        private final Timer render;
+        private final DistributionSummary statements;
+        private final Counter rows;
+        private final Counter bytes;
+
+        OperationMeters(MeterRegistry registry, String modelName, AdminOperation operation) {
+            String[] tags = {"model", modelName, "operation", operation.getTagValue()};
+            this.query = Timer.builder("zoun.admin.query")
+                    .description("Time spent handling admin requests before rendering")
+                    .tags(tags)
+                    .register(registry);
+            this.render = Timer.builder("zoun.admin.render")
+                    .description("Time spent rendering admin views or streaming admin responses")
+                    .tags(tags)
+                    .register(registry);
+            this.statements = DistributionSummary.builder("zoun.admin.statements")
+                    .description("SQL statements executed per admin request")
+                    .tags(tags)
+                    .register(registry);
+            this.rows = Counter.builder("zoun.admin.rows")
+                    .description("Rows returned, written or affected by admin operations")
+                    .tags(tags)
+                    .register(registry);
+            this.bytes = Counter.builder("zoun.admin.bytes")
+                    .description("Bytes streamed by admin operations")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+
+    /**
+     * The list page cache meters of one model.
+     */
+    private static final class CacheMeters {
+
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter evictions;
+
+        CacheMeters(MeterRegistry registry, String modelName) {
+            this.hits = Counter.builder("zoun.admin.list.cache.gets")
+                    .description("List page cache lookups")
+                    .tags("model", modelName, "result", "hit")
+                    .register(registry);
+            this.misses = Counter.builder("zoun.admin.list.cache.gets")
+                    .description("List page cache lookups")
+                    .tags("model", modelName, "result", "miss")
+                    .register(registry);
+            this.evictions = Counter.builder("zoun.admin.list.cache.evictions")
+                    .description("List pages removed from the list page cache")
+                    .tags("model", modelName)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.xcodebn.zounadminspring.query;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Hibernate session event listener that times JDBC statement executions for the
+ * {@link StatementStatistics} of the current request.
+ * Hibernate creates one instance per session.
+ */
+public class AdminSessionEventListener extends BaseSessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        StatementStatistics statistics = StatementStatistics.current();
+        if (statistics != null) {
+            statistics.executionStarted();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        StatementStatistics statistics = StatementStatistics.current();
+        if (statistics != null) {
+            statistics.executionEnded();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
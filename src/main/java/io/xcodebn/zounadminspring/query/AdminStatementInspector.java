@@ -0,0 +1,26 @@
+package io.xcodebn.zounadminspring.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector that records every prepared statement in the
+ * {@link StatementStatistics} of the current request.
+ * Delegates to the host application's inspector, if one was configured.
+ */
+public class AdminStatementInspector implements StatementInspector {
+
+    private final StatementInspector delegate;
+
+    public AdminStatementInspector(StatementInspector delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        StatementStatistics statistics = StatementStatistics.current();
+        if (statistics != null) {
+            statistics.recordStatement(sql);
+        }
+        return delegate != null ? delegate.inspect(sql) : sql;
+    }
+}
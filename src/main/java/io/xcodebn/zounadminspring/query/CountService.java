@@ -0,0 +1,213 @@
+package io.xcodebn.zounadminspring.query;
+
+import io.xcodebn.zounadminspring.config.AdminPersistence;
+import io.xcodebn.zounadminspring.config.AdminUIProperties;
+import io.xcodebn.zounadminspring.core.ModelMetadata;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides the row totals shown in list views, using the model's {@link CountStrategy}.
+ */
+@Service
+public class CountService {
+
+    private static final Logger log = LoggerFactory.getLogger(CountService.class);
+
+    private final EntityManager entityManager;
+    private final ModelChangeTracker changeTracker;
+    private final List<RowCountEstimator> estimators;
+    private final AdminUIProperties properties;
+
+    private final Map<String, CachedCount> cachedCounts = new ConcurrentHashMap<>();
+
+    public CountService(AdminPersistence persistence,
+                        ModelChangeTracker changeTracker,
+                        List<RowCountEstimator> estimators,
+                        AdminUIProperties properties) {
+        this.entityManager = persistence.getEntityManager();
+        this.changeTracker = changeTracker;
+        this.estimators = estimators;
+        this.properties = properties;
+    }
+
+    /**
+     * Get the total number of rows of a model according to its count strategy.
+     *
+     * @return the total, or empty if it cannot be determined without counting
+     */
+    public Optional<RowCount> count(ModelMetadata metadata) {
+        return switch (properties.getCountStrategy(metadata.modelName())) {
+            case EXACT -> Optional.of(new RowCount(countExact(metadata.entityClass()), true));
+            case CACHED -> Optional.of(new RowCount(countCached(metadata), true));
+            case APPROXIMATE -> estimate(metadata.entityClass()).stream()
+                    .mapToObj(estimate -> new RowCount(estimate, false))
+                    .findFirst();
+        };
+    }
+
+    /**
+     * Count all rows of an entity with COUNT(*).
+     */
+    public long countExact(Class<?> entityClass) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        query.select(cb.count(query.from(entityClass)));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Count all rows of an entity with COUNT(*), within a query timeout.
+     */
+    public long countExact(Class<?> entityClass, Duration timeout) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        query.select(cb.count(query.from(entityClass)));
+        return entityManager.createQuery(query)
+                .setHint(SpecHints.HINT_SPEC_QUERY_TIMEOUT, timeout.toMillis())
+                .getSingleResult();
+    }
+
+    /**
+     * Count the rows of an entity whose date or timestamp field is at or after a point in time,
+     * within a query timeout.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public long countSince(Class<?> entityClass, String fieldName, ZonedDateTime since, Duration timeout) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Object> root = query.from((Class<Object>) entityClass);
+        Path<Comparable> field = root.get(fieldName);
+        Comparable bound = toTemporal(since, field.getJavaType());
+        query.select(cb.count(root)).where(cb.greaterThanOrEqualTo(field, bound));
+        return entityManager.createQuery(query)
+                .setHint(SpecHints.HINT_SPEC_QUERY_TIMEOUT, timeout.toMillis())
+                .getSingleResult();
+    }
+
+    /**
+     * Count the rows of an entity matching a search filter, within the search timeout.
+     */
+    @SuppressWarnings("unchecked")
+    public long countExact(Class<?> entityClass, Specification<Object> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Object> root = query.from((Class<Object>) entityClass);
+        query.select(cb.count(root)).where(filter.toPredicate(root, query, cb));
+        return entityManager.createQuery(query)
+                .setHint(SpecHints.HINT_SPEC_QUERY_TIMEOUT, properties.getSearchTimeout().toMillis())
+                .getSingleResult();
+    }
+
+    /**
+     * Get the cached exact count, recounting once the TTL expired or the model changed.
+     */
+    private long countCached(ModelMetadata metadata) {
+        String modelName = metadata.modelName();
+        long generation = changeTracker.getGeneration(modelName);
+        long now = System.nanoTime();
+
+        CachedCount cached = cachedCounts.get(modelName);
+        if (cached != null && cached.generation() == generation && now - cached.expiresAt() < 0) {
+            return cached.value();
+        }
+
+        long value = countExact(metadata.entityClass());
+        long expiresAt = now + properties.getCountCacheTtl().toNanos();
+        cachedCounts.put(modelName, new CachedCount(value, generation, expiresAt));
+        return value;
+    }
+
+    /**
+     * Read the row count estimate of an entity's table from the database statistics.
+     */
+    private OptionalLong estimate(Class<?> entityClass) {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+
+        Optional<RowCountEstimator> estimator = estimators.stream()
+                .filter(e -> e.supports(dialect))
+                .findFirst();
+        if (estimator.isEmpty()) {
+            log.debug("No row count estimator for dialect '{}'", dialect.getClass().getSimpleName());
+            return OptionalLong.empty();
+        }
+
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass);
+        if (!(persister instanceof AbstractEntityPersister entityPersister)) {
+            return OptionalLong.empty();
+        }
+
+        return estimator.get().estimate(entityManager, unqualify(entityPersister.getTableName()));
+    }
+
+    /**
+     * Express a point in time as a value of a date or timestamp attribute type.
+     */
+    @SuppressWarnings("rawtypes")
+    private static Comparable toTemporal(ZonedDateTime time, Class<?> type) {
+        if (type == LocalDate.class) {
+            return time.toLocalDate();
+        }
+        if (type == LocalDateTime.class) {
+            return time.toLocalDateTime();
+        }
+        if (type == Instant.class) {
+            return time.toInstant();
+        }
+        if (type == OffsetDateTime.class) {
+            return time.toOffsetDateTime();
+        }
+        if (type == ZonedDateTime.class) {
+            return time;
+        }
+        if (type == java.sql.Date.class) {
+            return java.sql.Date.valueOf(time.toLocalDate());
+        }
+        if (type == Timestamp.class) {
+            return Timestamp.from(time.toInstant());
+        }
+        if (type == Date.class) {
+            return Date.from(time.toInstant());
+        }
+        throw new IllegalArgumentException("Not a date or timestamp type: " + type.getName());
+    }
+
+    /**
+     * Strip the schema/catalog qualifier and identifier quotes from a table name.
+     */
+    private static String unqualify(String tableName) {
+        String name = tableName.substring(tableName.lastIndexOf('.') + 1);
+        return name.replace("\"", "").replace("`", "");
+    }
+
+    private record CachedCount(long value, long generation, long expiresAt) {
+    }
+}
@@ -0,0 +1,22 @@
+package io.xcodebn.zounadminspring.query;
+
+/**
+ * How list views obtain the total number of rows of a model.
+ */
+public enum CountStrategy {
+
+    /**
+     * Run COUNT(*) for every page.
+     */
+    EXACT,
+
+    /**
+     * Run COUNT(*) at most once per TTL; admin writes to the model invalidate it.
+     */
+    CACHED,
+
+    /**
+     * Read the row count estimate from the database statistics; never runs COUNT(*).
+     */
+    APPROXIMATE
+}
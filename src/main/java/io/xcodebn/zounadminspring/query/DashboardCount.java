@@ -0,0 +1,23 @@
+package io.xcodebn.zounadminspring.query;
+
+/**
+ * Row counts of one model as shown on the dashboard.
+ *
+ * @param rows         number of rows, or null while loading or if counting failed
+ * @param exact        whether {@code rows} is an exact count rather than a database estimate
+ * @param changedToday number of rows changed since midnight, or null if not configured or unknown
+ * @param loading      whether the counts are still being computed for the first time
+ * @param failed       whether the last attempt to count failed or timed out
+ */
+public record DashboardCount(
+    Long rows,
+    boolean exact,
+    Long changedToday,
+    boolean loading,
+    boolean failed
+) {
+
+    static final DashboardCount LOADING = new DashboardCount(null, false, null, true, false);
+
+    static final DashboardCount FAILED = new DashboardCount(null, false, null, false, true);
+}
@@ -0,0 +1,169 @@
+package io.xcodebn.zounadminspring.query;
+
+import io.xcodebn.zounadminspring.config.AdminUIProperties;
+import io.xcodebn.zounadminspring.core.AdminModelRegistry;
+import io.xcodebn.zounadminspring.core.ModelMetadata;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Provides the per-model row counts shown on the dashboard without making it wait for them.
+ * Counts are computed concurrently on virtual threads, at most {@code dashboard-count-concurrency}
+ * queries at a time and each within {@code dashboard-count-timeout}, and cached. A cached count
+ * is served as is and recomputed in the background once its TTL expired or its model changed;
+ * models that were never counted are reported as loading.
+ */
+@Service
+public class DashboardCountService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardCountService.class);
+
+    private final AdminModelRegistry modelRegistry;
+    private final CountService countService;
+    private final ModelChangeTracker changeTracker;
+    private final AdminUIProperties properties;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final Map<String, CachedCount> cachedCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Models whose counts are being computed, so each is computed by one task at a time.
+     */
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public DashboardCountService(AdminModelRegistry modelRegistry,
+                                 CountService countService,
+                                 ModelChangeTracker changeTracker,
+                                 AdminUIProperties properties) {
+        this.modelRegistry = modelRegistry;
+        this.countService = countService;
+        this.changeTracker = changeTracker;
+        this.properties = properties;
+        this.permits = new Semaphore(Math.max(1, properties.getDashboardCountConcurrency()));
+    }
+
+    /**
+     * Get the counts of all models as currently cached, starting background refreshes
+     * for those that are missing, expired or stale.
+     *
+     * @return counts keyed by model name, empty if dashboard counts are disabled
+     */
+    public Map<String, DashboardCount> getCounts() {
+        if (!properties.isDashboardCounts()) {
+            return Collections.emptyMap();
+        }
+
+        long now = System.nanoTime();
+        Map<String, DashboardCount> counts = new LinkedHashMap<>();
+        for (ModelMetadata metadata : modelRegistry.getAllModels().values()) {
+            String modelName = metadata.modelName();
+            CachedCount cached = cachedCounts.get(modelName);
+            if (cached == null || cached.generation() != changeTracker.getGeneration(modelName)
+                    || now - cached.expiresAt() >= 0) {
+                refresh(metadata);
+            }
+            counts.put(modelName, cached != null ? cached.count() : DashboardCount.LOADING);
+        }
+        return counts;
+    }
+
+    /**
+     * Start computing the counts of a model, unless that is already in progress.
+     */
+    private void refresh(ModelMetadata metadata) {
+        String modelName = metadata.modelName();
+        if (!refreshing.add(modelName)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    permits.acquire();
+                    try {
+                        compute(metadata);
+                    } finally {
+                        permits.release();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    refreshing.remove(modelName);
+                }
+            });
+        } catch (RuntimeException e) {
+            // Rejected after shutdown
+            refreshing.remove(modelName);
+        }
+    }
+
+    private void compute(ModelMetadata metadata) {
+        String modelName = metadata.modelName();
+        // Read before counting, so a write racing with the count leaves the result stale
+        long generation = changeTracker.getGeneration(modelName);
+        Duration timeout = properties.getDashboardCountTimeout();
+
+        DashboardCount count;
+        try {
+            RowCount rows = countRows(metadata, timeout);
+            Long changedToday = countChangedToday(metadata, timeout).orElse(null);
+            count = new DashboardCount(rows.value(), rows.exact(), changedToday, false, false);
+        } catch (RuntimeException e) {
+            log.warn("Failed to count rows of model '{}': {}", modelName, e.getMessage());
+            CachedCount previous = cachedCounts.get(modelName);
+            count = previous != null && previous.count().rows() != null
+                    ? new DashboardCount(previous.count().rows(), previous.count().exact(),
+                                         previous.count().changedToday(), false, true)
+                    : DashboardCount.FAILED;
+        }
+
+        long expiresAt = System.nanoTime() + properties.getDashboardCountTtl().toNanos();
+        cachedCounts.put(modelName, new CachedCount(count, generation, expiresAt));
+    }
+
+    /**
+     * Count rows according to the model's count strategy: estimated for APPROXIMATE, exact otherwise.
+     */
+    private RowCount countRows(ModelMetadata metadata, Duration timeout) {
+        if (properties.getCountStrategy(metadata.modelName()) == CountStrategy.APPROXIMATE) {
+            Optional<RowCount> estimate = countService.count(metadata);
+            if (estimate.isPresent()) {
+                return estimate.get();
+            }
+        }
+        return new RowCount(countService.countExact(metadata.entityClass(), timeout), true);
+    }
+
+    private Optional<Long> countChangedToday(ModelMetadata metadata, Duration timeout) {
+        String changedAtField = properties.getModel(metadata.modelName()).getChangedAtField();
+        if (changedAtField == null || changedAtField.isBlank()) {
+            return Optional.empty();
+        }
+        ZonedDateTime midnight = LocalDate.now().atStartOfDay(ZoneId.systemDefault());
+        return Optional.of(countService.countSince(metadata.entityClass(), changedAtField, midnight, timeout));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record CachedCount(DashboardCount count, long generation, long expiresAt) {
+    }
+}
@@ -0,0 +1,48 @@
+package io.xcodebn.zounadminspring.query;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * File formats supported by model export and import.
+ */
+public enum DataFormat {
+
+    /**
+     * Comma-separated values with a header row of field names.
+     */
+    CSV(new MediaType("text", "csv"), "csv"),
+
+    /**
+     * One JSON object per line, keyed by field name.
+     */
+    JSONL(new MediaType("application", "x-ndjson"), "jsonl");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    DataFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Resolve a format from a request parameter such as {@code csv} or {@code jsonl}.
+     */
+    public static DataFormat fromParameter(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported format: " + value);
+        }
+    }
+}
@@ -0,0 +1,545 @@
+package io.xcodebn.zounadminspring.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.xcodebn.zounadminspring.config.AdminPersistence;
+import io.xcodebn.zounadminspring.config.AdminUIProperties;
+import io.xcodebn.zounadminspring.core.EntityMetadata;
+import io.xcodebn.zounadminspring.core.EntityReflectionService;
+import io.xcodebn.zounadminspring.core.FieldMetadata;
+import io.xcodebn.zounadminspring.core.ModelMetadata;
+import io.xcodebn.zounadminspring.util.FieldAccessors;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Executes the read queries behind the admin list views.
+ * In projection mode, list pages are loaded with a Criteria tuple query over exactly the
+ * visible list columns and returned as {@link EntityRow}s, so LOB and unused columns are never read.
+ * In entity mode, to-one relationships shown in the list are fetched with a load graph.
+ * Either way a page costs a bounded number of statements, independent of its row count.
+ * Pages are addressed by offset or, in {@link PaginationMode#KEYSET keyset} mode, by cursor,
+ * and can be filtered by a search term (see {@link SearchService}).
+ * Pages and edit form entities are read in read-only transactions, so Hibernate keeps no
+ * dirty-checking snapshots and never flushes; with {@code stateless-reads} pages are read
+ * through a {@link org.hibernate.StatelessSession} without any persistence context.
+ */
+@Service
+public class EntityQueryService {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityQueryService.class);
+
+    private final EntityManager entityManager;
+    private final EntityReflectionService reflectionService;
+    private final CountService countService;
+    private final SearchService searchService;
+    private final ListPageCache listPageCache;
+    private final ObjectMapper objectMapper;
+    private final AdminUIProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * Projection plans per entity class; an empty value means the entity cannot be projected.
+     */
+    private final Map<Class<?>, Optional<ListProjection>> projections = new ConcurrentHashMap<>();
+
+    public EntityQueryService(AdminPersistence persistence,
+                              EntityReflectionService reflectionService,
+                              CountService countService,
+                              SearchService searchService,
+                              ListPageCache listPageCache,
+                              ObjectMapper objectMapper,
+                              AdminUIProperties properties) {
+        this.entityManager = persistence.getEntityManager();
+        this.reflectionService = reflectionService;
+        this.countService = countService;
+        this.searchService = searchService;
+        this.listPageCache = listPageCache;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(persistence.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Load one page of a model for the list view.
+     * Rows are {@link EntityRow}s in projection mode, managed entities otherwise.
+     * Projected pages go through the {@link ListPageCache} when it is enabled; entity pages are
+     * never cached, as their detached entities could not load lazy attributes when rendered.
+     * Reads that must see the session's own writes (see {@link ReadRouting}) bypass the cache.
+     */
+    public ListPage findPage(ModelMetadata metadata, ListRequest request) {
+        if (listPageCache.isEnabled() && properties.isListProjection()
+                && getProjection(metadata.entityClass()).isPresent() && !ReadRouting.isReadingFromPrimary()) {
+            return listPageCache.get(metadata, request, () -> loadPage(metadata, request));
+        }
+        return loadPage(metadata, request);
+    }
+
+    /**
+     * Load one entity of a model for the edit form, read-only.
+     *
+     * @return the entity, or empty if no row has this ID
+     */
+    public Optional<Object> findById(ModelMetadata metadata, Object id) {
+        return Optional.<Object>ofNullable(readOnlyTransaction.execute(
+                status -> entityManager.unwrap(Session.class)
+                        .byId(metadata.entityClass())
+                        .withReadOnly(true)
+                        .load(id)));
+    }
+
+    private ListPage loadPage(ModelMetadata metadata, ListRequest request) {
+        return readOnlyTransaction.execute(status -> properties.isStatelessReads()
+                ? StatelessReads.call(entityManager, session -> loadPage(metadata, request, session))
+                : loadPage(metadata, request, entityManager.unwrap(Session.class)));
+    }
+
+    private ListPage loadPage(ModelMetadata metadata, ListRequest request, SharedSessionContract session) {
+        if (properties.getPaginationMode(metadata.modelName()) == PaginationMode.KEYSET) {
+            return findKeysetPage(metadata, request, session);
+        }
+        return findOffsetPage(metadata, request, session);
+    }
+
+    /**
+     * Load a page by LIMIT/OFFSET.
+     * With an exact count strategy the total comes from a count query; otherwise one extra
+     * row is fetched to detect the next page and the total, if any, is cached or estimated.
+     * Search results are only counted with the exact strategy.
+     */
+    private ListPage findOffsetPage(ModelMetadata metadata, ListRequest request, SharedSessionContract session) {
+        int pageSize = properties.getPageSize();
+        boolean exact = properties.getCountStrategy(metadata.modelName()) == CountStrategy.EXACT;
+        Specification<Object> filter = searchService.toSpecification(metadata, request.search()).orElse(null);
+        ListQuery query = createListQuery(metadata.entityClass(), request.sortBy(), filter, session);
+        query.criteria().orderBy(toOrders(query, request.direction(), false));
+
+        List<ListResult> results = query.execute((long) request.page() * pageSize, exact ? pageSize : pageSize + 1);
+        boolean hasMore = results.size() > pageSize;
+        List<Object> rows = results.stream().limit(pageSize).map(ListResult::row).toList();
+
+        if (request.page() == 0 && rows.size() < pageSize) {
+            // First and only page, the count query can be skipped
+            return ListPage.ofOffset(rows, 0, pageSize, rows.size());
+        }
+
+        if (filter != null) {
+            if (!exact) {
+                return ListPage.ofSlice(rows, request.page(), pageSize, hasMore, null, false);
+            }
+            long matches = countService.countExact(metadata.entityClass(), filter);
+            return ListPage.ofOffset(rows, request.page(), pageSize, matches);
+        }
+
+        Optional<RowCount> total = countService.count(metadata);
+        if (exact) {
+            return ListPage.ofOffset(rows, request.page(), pageSize, total.orElseThrow().value());
+        }
+        return ListPage.ofSlice(rows, request.page(), pageSize, hasMore,
+                                total.map(RowCount::value).orElse(null),
+                                total.map(RowCount::exact).orElse(false));
+    }
+
+    /**
+     * Load a page by seeking past the (sort value, ID) position of a cursor.
+     * Fetches one extra row to detect whether another page exists; never counts.
+     */
+    private ListPage findKeysetPage(ModelMetadata metadata, ListRequest request, SharedSessionContract session) {
+        int pageSize = properties.getPageSize();
+        Specification<Object> filter = searchService.toSpecification(metadata, request.search()).orElse(null);
+        ListQuery query = createListQuery(metadata.entityClass(), request.sortBy(), filter, session);
+
+        KeysetCursor cursor = request.cursor() != null && !request.cursor().isBlank()
+                ? KeysetCursor.decode(objectMapper, request.cursor(),
+                                      query.sortField().type(), query.idField().type())
+                : null;
+        boolean backward = cursor != null && cursor.backward();
+
+        if (cursor != null) {
+            query.where(keysetPredicate(query, request.direction(), cursor));
+        }
+        query.criteria().orderBy(toOrders(query, request.direction(), backward));
+
+        List<ListResult> results = new ArrayList<>(query.execute(0, pageSize + 1));
+        boolean hasMore = results.size() > pageSize;
+        if (hasMore) {
+            results.remove(results.size() - 1);
+        }
+        if (backward) {
+            Collections.reverse(results);
+        }
+
+        boolean hasNext = backward || hasMore;
+        boolean hasPrevious = backward ? hasMore : cursor != null;
+
+        String nextCursor = null;
+        String previousCursor = null;
+        if (!results.isEmpty()) {
+            ListResult first = results.get(0);
+            ListResult last = results.get(results.size() - 1);
+            if (hasNext) {
+                nextCursor = KeysetCursor.encode(objectMapper, false, last.sortValue(), last.id());
+            }
+            if (hasPrevious) {
+                previousCursor = KeysetCursor.encode(objectMapper, true, first.sortValue(), first.id());
+            }
+        }
+
+        List<Object> rows = results.stream().map(ListResult::row).toList();
+        return ListPage.ofKeyset(rows, pageSize, nextCursor, previousCursor);
+    }
+
+    /**
+     * Build the seek predicate for a cursor.
+     * Rows are ordered by the sort value (NULLs last) and then by ID in the same direction;
+     * reading backward flips every comparison.
+     */
+    private Predicate keysetPredicate(ListQuery query, Sort.Direction direction, KeysetCursor cursor) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        Path<Comparable<Object>> sortPath = query.sortPath();
+        Path<Comparable<Object>> idPath = query.idPath();
+        boolean after = direction.isAscending() != cursor.backward();
+        Comparable<Object> id = asComparable(cursor.id());
+
+        Predicate idBeyond = after ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+        if (query.sortByIdentifier()) {
+            return idBeyond;
+        }
+
+        if (cursor.sortValue() == null) {
+            // Cursor is inside the trailing block of NULL sort values
+            Predicate inNullBlock = cb.and(cb.isNull(sortPath), idBeyond);
+            return cursor.backward() ? cb.or(cb.isNotNull(sortPath), inNullBlock) : inNullBlock;
+        }
+
+        Comparable<Object> sortValue = asComparable(cursor.sortValue());
+        Predicate sortBeyond = after ? cb.greaterThan(sortPath, sortValue) : cb.lessThan(sortPath, sortValue);
+        Predicate seek = cb.or(sortBeyond, cb.and(cb.equal(sortPath, sortValue), idBeyond));
+        return cursor.backward() ? seek : cb.or(seek, cb.isNull(sortPath));
+    }
+
+    /**
+     * Order by the sort field (NULLs last when reading forward) with the ID as tie-breaker.
+     */
+    private List<Order> toOrders(ListQuery query, Sort.Direction direction, boolean backward) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        boolean ascending = direction.isAscending() != backward;
+
+        List<Order> orders = new ArrayList<>(2);
+        if (!query.sortByIdentifier()) {
+            orders.add(ascending ? cb.asc(query.sortPath(), backward) : cb.desc(query.sortPath(), backward));
+        }
+        orders.add(ascending ? cb.asc(query.idPath()) : cb.desc(query.idPath()));
+        return orders;
+    }
+
+    /**
+     * Create the select part of a list query, in projection or entity mode.
+     *
+     * @param filter  search filter, or null to list all rows
+     * @param session session the query runs in, stateful or stateless
+     */
+    @SuppressWarnings("unchecked")
+    private ListQuery createListQuery(Class<?> entityClass, String sortBy, Specification<Object> filter,
+                                      SharedSessionContract session) {
+        EntityMetadata entityMetadata = reflectionService.getMetadata(entityClass);
+        FieldMetadata idField = entityMetadata.getIdField()
+                .orElseThrow(() -> new IllegalArgumentException("Model has no ID field: " + entityClass.getSimpleName()));
+        FieldMetadata sortField = entityMetadata.getField(sortBy)
+                .filter(f -> !f.isRelationship() && !f.isLob() && !f.isTransient())
+                .orElseThrow(() -> new IllegalArgumentException("Cannot sort by field: " + sortBy));
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        Optional<ListProjection> projection = properties.isListProjection()
+                ? getProjection(entityClass)
+                : Optional.empty();
+
+        if (projection.isPresent()) {
+            CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+            Root<Object> root = criteria.from((Class<Object>) entityClass);
+
+            List<Selection<?>> selections = new ArrayList<>(projection.get().columns().size() + 1);
+            for (FieldMetadata column : projection.get().columns()) {
+                if (column.isRelationship()) {
+                    // Left join so rows with a null relationship are kept
+                    selections.add(root.join(column.name(), JoinType.LEFT));
+                } else {
+                    selections.add(root.get(column.name()));
+                }
+            }
+            // The sort value is needed for keyset cursors even when it is not a list column
+            selections.add(root.get(sortField.name()));
+            criteria.multiselect(selections);
+
+            Predicate predicate = filter != null ? filter.toPredicate(root, criteria, cb) : null;
+            return new ProjectedListQuery(session, criteria, root, predicate, idField, sortField, projection.get());
+        }
+
+        CriteriaQuery<Object> criteria = cb.createQuery((Class<Object>) entityClass);
+        Root<Object> root = criteria.from((Class<Object>) entityClass);
+        criteria.select(root);
+
+        Predicate predicate = filter != null ? filter.toPredicate(root, criteria, cb) : null;
+        return new EntityListQuery(session, criteria, root, predicate, idField, sortField,
+                                   buildListFetchGraph(entityClass));
+    }
+
+    /**
+     * Build a load graph over the to-one relationships among the list columns.
+     *
+     * @return the graph, or null if the list shows no relationships
+     */
+    @SuppressWarnings("unchecked")
+    private EntityGraph<Object> buildListFetchGraph(Class<?> entityClass) {
+        List<FieldMetadata> relationships = reflectionService.getMetadata(entityClass).listFields().stream()
+                .filter(FieldMetadata::isRelationship)
+                .toList();
+
+        if (relationships.isEmpty()) {
+            return null;
+        }
+
+        EntityGraph<Object> graph = entityManager.createEntityGraph((Class<Object>) entityClass);
+        for (FieldMetadata relationship : relationships) {
+            graph.addAttributeNodes(relationship.name());
+        }
+        return graph;
+    }
+
+    private Optional<ListProjection> getProjection(Class<?> entityClass) {
+        return projections.computeIfAbsent(entityClass, this::buildProjection);
+    }
+
+    /**
+     * Build the projection plan for an entity: its list columns plus the ID column.
+     * Entities whose list columns are not all persistent attributes fall back to entity mode.
+     */
+    private Optional<ListProjection> buildProjection(Class<?> entityClass) {
+        EntityMetadata entityMetadata = reflectionService.getMetadata(entityClass);
+
+        List<FieldMetadata> columns = new ArrayList<>(entityMetadata.listFields());
+        entityMetadata.getIdField()
+                .filter(idField -> !columns.contains(idField))
+                .ifPresent(idField -> columns.add(0, idField));
+
+        EntityType<?> entityType;
+        try {
+            entityType = entityManager.getMetamodel().entity(entityClass);
+        } catch (IllegalArgumentException e) {
+            log.debug("'{}' is not a managed entity type, using entity mode", entityClass.getSimpleName());
+            return Optional.empty();
+        }
+
+        Map<String, Integer> columnIndex = new LinkedHashMap<>();
+        for (FieldMetadata column : columns) {
+            Attribute<?, ?> attribute;
+            try {
+                attribute = entityType.getAttribute(column.name());
+            } catch (IllegalArgumentException e) {
+                log.debug("'{}.{}' is not a persistent attribute, using entity mode",
+                          entityClass.getSimpleName(), column.name());
+                return Optional.empty();
+            }
+            columnIndex.put(attribute.getName(), columnIndex.size());
+        }
+
+        return Optional.of(new ListProjection(List.copyOf(columns), Collections.unmodifiableMap(columnIndex)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> asComparable(Object value) {
+        return (Comparable<Object>) value;
+    }
+
+    /**
+     * Columns selected by the projected list query, in selection order.
+     */
+    private record ListProjection(List<FieldMetadata> columns, Map<String, Integer> columnIndex) {
+    }
+
+    /**
+     * A list row together with the values that position it for keyset cursors.
+     */
+    private record ListResult(Object row, Object sortValue, Object id) {
+    }
+
+    /**
+     * A list query whose select part is built; callers add the where and order by clauses.
+     */
+    private abstract class ListQuery {
+
+        private final SharedSessionContract session;
+        private final Root<?> root;
+        private final Predicate filter;
+        private final FieldMetadata idField;
+        private final FieldMetadata sortField;
+
+        ListQuery(SharedSessionContract session, Root<?> root, Predicate filter,
+                  FieldMetadata idField, FieldMetadata sortField) {
+            this.session = session;
+            this.root = root;
+            this.filter = filter;
+            this.idField = idField;
+            this.sortField = sortField;
+        }
+
+        abstract CriteriaQuery<?> criteria();
+
+        abstract List<ListResult> execute(long offset, int limit);
+
+        FieldMetadata idField() {
+            return idField;
+        }
+
+        FieldMetadata sortField() {
+            return sortField;
+        }
+
+        boolean sortByIdentifier() {
+            return sortField.name().equals(idField.name());
+        }
+
+        Path<Comparable<Object>> idPath() {
+            return root.get(idField.name());
+        }
+
+        Path<Comparable<Object>> sortPath() {
+            return root.get(sortField.name());
+        }
+
+        /**
+         * Restrict the query to rows matching the search filter and the given predicate.
+         */
+        void where(Predicate predicate) {
+            criteria().where(filter != null ? entityManager.getCriteriaBuilder().and(filter, predicate) : predicate);
+        }
+
+        <R> List<R> run(CriteriaQuery<R> criteria, long offset, int limit, EntityGraph<?> fetchGraph) {
+            TypedQuery<R> query = session.createQuery(criteria)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                    .setFirstResult(Math.toIntExact(offset))
+                    .setMaxResults(limit);
+            if (fetchGraph != null) {
+                query.setHint(SpecHints.HINT_SPEC_LOAD_GRAPH, fetchGraph);
+            }
+            if (filter != null) {
+                // Bound searches, which may not be able to use an index
+                query.setHint(SpecHints.HINT_SPEC_QUERY_TIMEOUT, properties.getSearchTimeout().toMillis());
+            }
+            return query.getResultList();
+        }
+    }
+
+    /**
+     * Tuple query over the projected list columns, producing {@link EntityRow}s.
+     */
+    private final class ProjectedListQuery extends ListQuery {
+
+        private final CriteriaQuery<Tuple> criteria;
+        private final ListProjection projection;
+
+        ProjectedListQuery(SharedSessionContract session, CriteriaQuery<Tuple> criteria, Root<?> root,
+                           Predicate filter, FieldMetadata idField, FieldMetadata sortField,
+                           ListProjection projection) {
+            super(session, root, filter, idField, sortField);
+            this.criteria = criteria;
+            this.projection = projection;
+            if (filter != null) {
+                criteria.where(filter);
+            }
+        }
+
+        @Override
+        CriteriaQuery<?> criteria() {
+            return criteria;
+        }
+
+        @Override
+        List<ListResult> execute(long offset, int limit) {
+            int columnCount = projection.columns().size();
+            int idIndex = projection.columnIndex().get(idField().name());
+
+            List<ListResult> results = new ArrayList<>();
+            for (Tuple tuple : run(criteria, offset, limit, null)) {
+                Object[] values = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    values[i] = tuple.get(i);
+                }
+                results.add(new ListResult(new EntityRow(projection.columnIndex(), values),
+                                           tuple.get(columnCount), values[idIndex]));
+            }
+            return results;
+        }
+    }
+
+    /**
+     * Query for entities, with the list relationships fetched by a load graph.
+     * The entities are read-only, or detached in a stateless session.
+     */
+    private final class EntityListQuery extends ListQuery {
+
+        private final CriteriaQuery<Object> criteria;
+        private final EntityGraph<Object> fetchGraph;
+
+        EntityListQuery(SharedSessionContract session, CriteriaQuery<Object> criteria, Root<Object> root,
+                        Predicate filter, FieldMetadata idField, FieldMetadata sortField,
+                        EntityGraph<Object> fetchGraph) {
+            super(session, root, filter, idField, sortField);
+            this.criteria = criteria;
+            this.fetchGraph = fetchGraph;
+            if (filter != null) {
+                criteria.where(filter);
+            }
+        }
+
+        @Override
+        CriteriaQuery<?> criteria() {
+            return criteria;
+        }
+
+        @Override
+        List<ListResult> execute(long offset, int limit) {
+            List<ListResult> results = new ArrayList<>();
+            for (Object entity : run(criteria, offset, limit, fetchGraph)) {
+                Class<?> entityClass = entity.getClass();
+                Object sortValue = FieldAccessors.require(entityClass, sortField().name()).get(entity);
+                Object id = FieldAccessors.require(entityClass, idField().name()).get(entity);
+                results.add(new ListResult(entity, sortValue, id));
+            }
+            return results;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.xcodebn.zounadminspring.query;
+
+import java.util.Map;
+
+/**
+ * Lightweight, read-only row returned by projected list queries.
+ * Holds only the selected column values, never a managed entity instance.
+ */
+public final class EntityRow {
+
+    private final Map<String, Integer> columnIndex;
+    private final Object[] values;
+
+    EntityRow(Map<String, Integer> columnIndex, Object[] values) {
+        this.columnIndex = columnIndex;
+        this.values = values;
+    }
+
+    /**
+     * Get the value of a selected column.
+     *
+     * @return the column value, or null if the column was not selected
+     */
+    public Object get(String fieldName) {
+        Integer index = columnIndex.get(fieldName);
+        return index != null ? values[index] : null;
+    }
+
+    /**
+     * Check if a column was selected by the query.
+     */
+    public boolean has(String fieldName) {
+        return columnIndex.containsKey(fieldName);
+    }
+}
@@ -0,0 +1,233 @@
+package io.xcodebn.zounadminspring.query;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.xcodebn.zounadminspring.config.AdminPersistence;
+import io.xcodebn.zounadminspring.config.AdminUIProperties;
+import io.xcodebn.zounadminspring.core.EntityReflectionService;
+import io.xcodebn.zounadminspring.core.FieldMetadata;
+import io.xcodebn.zounadminspring.core.ModelMetadata;
+import io.xcodebn.zounadminspring.util.CsvWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Writes all rows of a model as CSV or JSON lines with bounded memory.
+ * Rows are read as column tuples from a forward-only result stream with a JDBC fetch size,
+ * inside a read-only transaction (through a stateless session with {@code stateless-reads}),
+ * and written out as they arrive. To-one relationships are
+ * exported as the ID of the related entity, so an export can be imported again.
+ */
+@Service
+public class ExportService {
+
+    /**
+     * Rows between persistence context clears and output flushes.
+     */
+    private static final int CHUNK_SIZE = 1000;
+
+    private final EntityManager entityManager;
+    private final EntityReflectionService reflectionService;
+    private final SearchService searchService;
+    private final ObjectMapper objectMapper;
+    private final AdminUIProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportService(AdminPersistence persistence,
+                         EntityReflectionService reflectionService,
+                         SearchService searchService,
+                         ObjectMapper objectMapper,
+                         AdminUIProperties properties) {
+        this.entityManager = persistence.getEntityManager();
+        this.reflectionService = reflectionService;
+        this.searchService = searchService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(persistence.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Get the fields written by an export: all visible, non-LOB fields except to-many relationships.
+     */
+    public List<FieldMetadata> getExportFields(Class<?> entityClass) {
+        return reflectionService.getMetadata(entityClass).fields().stream()
+                .filter(FieldMetadata::isVisible)
+                .filter(f -> !f.isLob())
+                .filter(f -> !f.isRelationship() || f.relationshipMetadata().isToOne())
+                .toList();
+    }
+
+    /**
+     * Write the rows of a model, optionally filtered by a search term, ordered by ID.
+     *
+     * @return the number of rows written
+     */
+    public long export(ModelMetadata metadata, DataFormat format, String search, OutputStream out) throws IOException {
+        List<FieldMetadata> fields = getExportFields(metadata.entityClass());
+        Specification<Object> filter = searchService.toSpecification(metadata, search).orElse(null);
+
+        try {
+            return readOnlyTransaction.execute(status -> properties.isStatelessReads()
+                    ? StatelessReads.call(entityManager,
+                                          session -> export(session, metadata, fields, filter, format, out))
+                    : export(entityManager.unwrap(Session.class), metadata, fields, filter, format, out));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long export(SharedSessionContract session, ModelMetadata metadata, List<FieldMetadata> fields,
+                        Specification<Object> filter, DataFormat format, OutputStream out) {
+        try (Stream<Tuple> rows = streamRows(session, metadata.entityClass(), fields, filter)) {
+            return writeRows(rows.iterator(), fields, format, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Stream<Tuple> streamRows(SharedSessionContract session, Class<?> entityClass,
+                                     List<FieldMetadata> fields, Specification<Object> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+        Root<Object> root = criteria.from((Class<Object>) entityClass);
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (FieldMetadata field : fields) {
+            if (field.isRelationship()) {
+                // The foreign key of the relationship, read without joining the target table
+                String targetId = reflectionService.getMetadata(field.relationshipMetadata().targetEntity())
+                        .getIdField()
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "Related model has no ID field: " + field.relationshipMetadata().targetEntityName()))
+                        .name();
+                selections.add(root.get(field.name()).get(targetId));
+            } else {
+                selections.add(root.get(field.name()));
+            }
+        }
+        criteria.multiselect(selections);
+
+        if (filter != null) {
+            criteria.where(filter.toPredicate(root, criteria, cb));
+        }
+        reflectionService.getMetadata(entityClass).getIdField()
+                .ifPresent(idField -> criteria.orderBy(cb.asc(root.get(idField.name()))));
+
+        return session.createQuery(criteria)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, properties.getExportFetchSize())
+                .getResultStream();
+    }
+
+    private long writeRows(Iterator<Tuple> rows, List<FieldMetadata> fields,
+                           DataFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        RowWriter rowWriter = format == DataFormat.CSV
+                ? new CsvRowWriter(writer, fields)
+                : new JsonLinesRowWriter(writer, fields);
+
+        // Send the response headers (and the CSV header row) before the first rows are fetched
+        rowWriter.flush();
+
+        Object[] values = new Object[fields.size()];
+        long count = 0;
+        while (rows.hasNext()) {
+            Tuple row = rows.next();
+            for (int i = 0; i < values.length; i++) {
+                values[i] = row.get(i);
+            }
+            rowWriter.writeRow(values);
+
+            if (++count % CHUNK_SIZE == 0) {
+                entityManager.clear();
+                rowWriter.flush();
+            }
+        }
+        rowWriter.flush();
+        return count;
+    }
+
+    private interface RowWriter {
+
+        void writeRow(Object[] values) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final CsvWriter csv;
+
+        CsvRowWriter(Writer writer, List<FieldMetadata> fields) throws IOException {
+            this.csv = new CsvWriter(writer);
+            csv.writeRow(fields.stream().map(FieldMetadata::name).toList());
+        }
+
+        @Override
+        public void writeRow(Object[] values) throws IOException {
+            csv.writeRow(Arrays.asList(values));
+        }
+
+        @Override
+        public void flush() throws IOException {
+            csv.flush();
+        }
+    }
+
+    private final class JsonLinesRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+        private final List<FieldMetadata> fields;
+
+        JsonLinesRowWriter(Writer writer, List<FieldMetadata> fields) throws IOException {
+            this.generator = objectMapper.createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Objects are separated by line breaks instead of the default space
+            this.generator.setRootValueSeparator(null);
+            this.fields = fields;
+        }
+
+        @Override
+        public void writeRow(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                generator.writeFieldName(fields.get(i).name());
+                generator.writeObject(values[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+}
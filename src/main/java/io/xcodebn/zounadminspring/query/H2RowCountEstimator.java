@@ -0,0 +1,37 @@
+package io.xcodebn.zounadminspring.query;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Row count estimator for H2, reading {@code INFORMATION_SCHEMA.TABLES.ROW_COUNT_ESTIMATE}.
+ */
+@Component
+public class H2RowCountEstimator implements RowCountEstimator {
+
+    private static final String ESTIMATE_QUERY =
+            "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES " +
+            "WHERE TABLE_SCHEMA = SCHEMA() AND UPPER(TABLE_NAME) = UPPER(?1)";
+
+    @Override
+    public boolean supports(Dialect dialect) {
+        return dialect instanceof H2Dialect;
+    }
+
+    @Override
+    public OptionalLong estimate(EntityManager entityManager, String tableName) {
+        List<?> result = entityManager.createNativeQuery(ESTIMATE_QUERY)
+                .setParameter(1, tableName)
+                .getResultList();
+
+        if (result.isEmpty() || !(result.get(0) instanceof Number estimate)) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(estimate.longValue());
+    }
+}
@@ -0,0 +1,58 @@
+package io.xcodebn.zounadminspring.query;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Position of a keyset page boundary: the sort value and ID of the boundary row,
+ * and whether the page is read forward (after it) or backward (before it).
+ * Encoded as an opaque, URL-safe token.
+ */
+record KeysetCursor(
+    boolean backward,
+    Object sortValue,
+    Object id
+) {
+
+    private static final String FORWARD = "n";
+    private static final String BACKWARD = "p";
+
+    /**
+     * Encode a cursor as a URL-safe token.
+     */
+    static String encode(ObjectMapper objectMapper, boolean backward, Object sortValue, Object id) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(Arrays.asList(backward ? BACKWARD : FORWARD, sortValue, id));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode cursor", e);
+        }
+    }
+
+    /**
+     * Decode a token produced by {@link #encode}, converting the values to the given types.
+     */
+    static KeysetCursor decode(ObjectMapper objectMapper, String token, Class<?> sortType, Class<?> idType) {
+        try {
+            // Decimals are read as BigDecimal, as written, so BigDecimal sort values keep their precision
+            JsonNode node = objectMapper.reader(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                    .without(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES)
+                    .readTree(Base64.getUrlDecoder().decode(token));
+            if (!node.isArray() || node.size() != 3) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            boolean backward = BACKWARD.equals(node.get(0).asText());
+            Object sortValue = node.get(1).isNull() ? null : objectMapper.convertValue(node.get(1), sortType);
+            Object id = objectMapper.convertValue(node.get(2), idType);
+            return new KeysetCursor(backward, sortValue, id);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.xcodebn.zounadminspring.query;
+
+import java.util.List;
+
+/**
+ * One page of a list view, for either offset or keyset pagination.
+ * In keyset mode there is no page number or total; navigation uses the opaque
+ * {@link #getNextCursor() next} and {@link #getPreviousCursor() previous} cursor tokens.
+ * Offset pages may carry an approximate total or none at all, in which case
+ * {@link #hasNext()} is determined by fetching one row past the page.
+ */
+public final class ListPage {
+
+    private final List<?> content;
+    private final int number;
+    private final int size;
+    private final Long totalElements;
+    private final boolean totalExact;
+    private final boolean hasNext;
+    private final boolean hasPrevious;
+    private final boolean keyset;
+    private final String nextCursor;
+    private final String previousCursor;
+
+    private ListPage(List<?> content, int number, int size, Long totalElements, boolean totalExact,
+                     boolean hasNext, boolean hasPrevious, boolean keyset,
+                     String nextCursor, String previousCursor) {
+        this.content = content;
+        this.number = number;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalExact = totalExact;
+        this.hasNext = hasNext;
+        this.hasPrevious = hasPrevious;
+        this.keyset = keyset;
+        this.nextCursor = nextCursor;
+        this.previousCursor = previousCursor;
+    }
+
+    /**
+     * Create an offset page with a known total.
+     */
+    public static ListPage ofOffset(List<?> content, int number, int size, long totalElements) {
+        boolean hasNext = (long) (number + 1) * size < totalElements;
+        return new ListPage(content, number, size, totalElements, true, hasNext, number > 0, false, null, null);
+    }
+
+    /**
+     * Create an offset page whose next page was detected by over-fetching.
+     *
+     * @param totalElements the total to display, or null if unknown
+     * @param totalExact whether the total is an exact count rather than an estimate
+     */
+    public static ListPage ofSlice(List<?> content, int number, int size, boolean hasNext,
+                                   Long totalElements, boolean totalExact) {
+        return new ListPage(content, number, size, totalElements, totalElements != null && totalExact,
+                            hasNext, number > 0, false, null, null);
+    }
+
+    /**
+     * Create a keyset page navigated by cursor tokens.
+     */
+    public static ListPage ofKeyset(List<?> content, int size, String nextCursor, String previousCursor) {
+        return new ListPage(content, 0, size, null, false, nextCursor != null, previousCursor != null, true,
+                            nextCursor, previousCursor);
+    }
+
+    public List<?> getContent() {
+        return content;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getNumberOfElements() {
+        return content.size();
+    }
+
+    /**
+     * Get the total number of elements, or null if it is not known.
+     */
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    /**
+     * Get the total number of pages, or 0 if the total is not known.
+     */
+    public int getTotalPages() {
+        if (totalElements == null || size == 0) {
+            return 0;
+        }
+        return (int) Math.ceil((double) totalElements / size);
+    }
+
+    public boolean isTotalKnown() {
+        return totalElements != null;
+    }
+
+    /**
+     * Check whether the total is an exact count; an inexact total is a database estimate.
+     */
+    public boolean isTotalExact() {
+        return totalExact;
+    }
+
+    public boolean isKeyset() {
+        return keyset;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    public boolean hasPrevious() {
+        return hasPrevious;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public String getPreviousCursor() {
+        return previousCursor;
+    }
+}
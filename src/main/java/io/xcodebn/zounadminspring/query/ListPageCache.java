@@ -0,0 +1,93 @@
+package io.xcodebn.zounadminspring.query;
+
+import io.xcodebn.zounadminspring.config.AdminUIProperties;
+import io.xcodebn.zounadminspring.core.ModelMetadata;
+import io.xcodebn.zounadminspring.metrics.AdminMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * In-process LRU cache of list pages, keyed by model and {@link ListRequest}
+ * (page or cursor, sort and search), so reloading a list skips both its page and count queries.
+ * Disabled unless {@code list-cache-size} is positive.
+ * <p>
+ * Each entry records the {@link ModelChangeTracker#getListGeneration list generation} of its
+ * model, which covers the model and the models shown in its relationship columns. Any write to
+ * one of those models, made by the admin or seen by {@link ModelChangeEventListener}, makes the
+ * entry stale; other models' pages are kept.
+ * Entries also expire after {@code list-cache-ttl}, which bounds staleness for writes the
+ * tracker cannot see (e.g. plain SQL).
+ */
+@Component
+public class ListPageCache {
+
+    private final ModelChangeTracker changeTracker;
+    private final AdminMetrics metrics;
+    private final AdminUIProperties properties;
+
+    /**
+     * Entries in access order; guarded by itself.
+     */
+    private final LinkedHashMap<CacheKey, CachedPage> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedPage> eldest) {
+            if (size() > properties.getListCacheSize()) {
+                metrics.recordListCacheEviction(eldest.getKey().modelName());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    public ListPageCache(ModelChangeTracker changeTracker,
+                         AdminMetrics metrics,
+                         AdminUIProperties properties) {
+        this.changeTracker = changeTracker;
+        this.metrics = metrics;
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return properties.getListCacheSize() > 0;
+    }
+
+    /**
+     * Get a cached list page, loading and caching it if it is missing, expired or stale.
+     */
+    public ListPage get(ModelMetadata metadata, ListRequest request, Supplier<ListPage> loader) {
+        String modelName = metadata.modelName();
+        CacheKey key = new CacheKey(modelName, request);
+        // Taken before loading, so a write racing with the load leaves the entry stale
+        long generation = changeTracker.getListGeneration(metadata);
+        long now = System.nanoTime();
+
+        synchronized (entries) {
+            CachedPage cached = entries.get(key);
+            if (cached != null) {
+                if (cached.generation() == generation && now - cached.expiresAt() < 0) {
+                    metrics.recordListCacheHit(modelName);
+                    return cached.page();
+                }
+                entries.remove(key);
+                metrics.recordListCacheEviction(modelName);
+            }
+        }
+        metrics.recordListCacheMiss(modelName);
+
+        ListPage page = loader.get();
+        long expiresAt = now + properties.getListCacheTtl().toNanos();
+        synchronized (entries) {
+            entries.put(key, new CachedPage(page, generation, expiresAt));
+        }
+        return page;
+    }
+
+    private record CacheKey(String modelName, ListRequest request) {
+    }
+
+    private record CachedPage(ListPage page, long generation, long expiresAt) {
+    }
+}
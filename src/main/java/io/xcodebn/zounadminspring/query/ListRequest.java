@@ -0,0 +1,21 @@
+package io.xcodebn.zounadminspring.query;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Parameters of a list view request.
+ *
+ * @param page      zero-based page number (offset pagination)
+ * @param sortBy    name of the field to sort by
+ * @param direction sort direction
+ * @param cursor    opaque cursor token (keyset pagination), or null for the first page
+ * @param search    search term, or null/blank for no filter
+ */
+public record ListRequest(
+    int page,
+    String sortBy,
+    Sort.Direction direction,
+    String cursor,
+    String search
+) {
+}
@@ -0,0 +1,244 @@
+package io.xcodebn.zounadminspring.query;
+
+import io.xcodebn.zounadminspring.config.AdminPersistence;
+import io.xcodebn.zounadminspring.core.EntityReflectionService;
+import io.xcodebn.zounadminspring.core.FieldMetadata;
+import io.xcodebn.zounadminspring.core.ModelMetadata;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Blob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads {@code @Lob} column contents for downloads without loading the entity.
+ * The column is read through the JDBC {@link Blob} API in a read-only transaction: its size
+ * without reading its content, and a byte range by streaming only that range, so neither the
+ * whole LOB nor the bytes before a resumed range are read or held on the heap.
+ */
+@Service
+public class LobService {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final EntityManager entityManager;
+    private final EntityReflectionService reflectionService;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Map<LobColumn, String> selectStatements = new ConcurrentHashMap<>();
+
+    public LobService(AdminPersistence persistence,
+                      EntityReflectionService reflectionService) {
+        this.entityManager = persistence.getEntityManager();
+        this.reflectionService = reflectionService;
+        this.readOnlyTransaction = new TransactionTemplate(persistence.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Describe the LOB stored in a field of an entity.
+     *
+     * Only entities with a {@code @Version} get an entity tag: nothing else reliably changes
+     * whenever the LOB is rewritten, possibly by another node or plain SQL, without reading it.
+     *
+     * @return the size and entity tag, or empty if the entity does not exist or the LOB is null
+     */
+    public Optional<LobDescriptor> describe(ModelMetadata metadata, Object id, String fieldName) {
+        // Resolved here so an unsupported mapping fails before a download response is started
+        String sql = selectStatement(metadata, fieldName);
+
+        EntityType<?> entityType = entityManager.getMetamodel().entity(metadata.entityClass());
+        SingularAttribute<?, ?> idAttribute = entityType.getSingularAttributes().stream()
+                .filter(SingularAttribute::isId)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Model has no ID field: " + metadata.modelName()));
+        SingularAttribute<?, ?> versionAttribute = entityType.getSingularAttributes().stream()
+                .filter(SingularAttribute::isVersion)
+                .findFirst()
+                .orElse(null);
+
+        return readOnlyTransaction.execute(status -> {
+            Long length = readBlob(sql, id, Blob::length);
+            if (length == null) {
+                return Optional.empty();
+            }
+            if (versionAttribute == null) {
+                return Optional.of(new LobDescriptor(length, null));
+            }
+
+            // Attribute names come from the metamodel, never from user input
+            String hql = "select e." + versionAttribute.getName() + " from " + entityType.getName()
+                    + " e where e." + idAttribute.getName() + " = :id";
+            Object version = entityManager.createQuery(hql, Object.class)
+                    .setParameter("id", id)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                    .getResultList()
+                    .stream()
+                    .findFirst()
+                    .orElse(null);
+            return Optional.of(new LobDescriptor(length, version != null ? entityTag(id, fieldName, length, version) : null));
+        });
+    }
+
+    /**
+     * Write a byte range of the LOB stored in a field of an entity.
+     * Only the range is read from the database.
+     *
+     * @param offset index of the first byte to write
+     * @param length number of bytes to write
+     * @return the number of bytes written
+     */
+    public long write(ModelMetadata metadata, Object id, String fieldName,
+                      long offset, long length, OutputStream out) throws IOException {
+        String sql = selectStatement(metadata, fieldName);
+        if (length == 0) {
+            return 0;
+        }
+        try {
+            Long written = readOnlyTransaction.execute(status -> readBlob(sql, id, blob -> {
+                try (InputStream in = blob.getBinaryStream(offset + 1, length)) {
+                    return copy(in, out, length);
+                }
+            }));
+            return written != null ? written : 0;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Select the LOB column of one row and apply a function to it, freeing it afterwards.
+     * Must run in a transaction; I/O errors are rethrown as {@link UncheckedIOException}.
+     *
+     * @return the function's result, or null if the row does not exist or the LOB is null
+     */
+    private <T> T readBlob(String sql, Object id, BlobFunction<T> function) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setObject(1, id);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        return null;
+                    }
+                    Blob blob = resultSet.getBlob(1);
+                    if (blob == null) {
+                        return null;
+                    }
+                    try {
+                        return function.apply(blob);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } finally {
+                        blob.free();
+                    }
+                }
+            }
+        });
+    }
+
+    private String selectStatement(ModelMetadata metadata, String fieldName) {
+        return selectStatements.computeIfAbsent(new LobColumn(metadata.entityClass(), fieldName),
+                                                column -> buildSelect(metadata, column));
+    }
+
+    /**
+     * Build the SQL that selects only the LOB column of one row, from the table that holds it:
+     * the entity's primary table, a {@code @SecondaryTable} or, with JOINED inheritance, the table
+     * of the subclass declaring the field, each keyed by its own column.
+     *
+     * @throws IllegalArgumentException if the field is not a LOB or its table cannot be resolved
+     */
+    private String buildSelect(ModelMetadata metadata, LobColumn column) {
+        requireLobField(metadata, column.fieldName());
+
+        EntityPersister persister = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(column.entityClass());
+        if (!(persister instanceof AbstractEntityPersister entityPersister)) {
+            throw new IllegalArgumentException("Cannot stream LOB of model: " + metadata.modelName());
+        }
+
+        String tableName = entityPersister.getPropertyTableName(column.fieldName());
+        List<String> keyColumns = new ArrayList<>();
+        entityPersister.forEachMutableTable(table -> {
+            if (table.getTableName().equals(tableName)) {
+                table.getKeyMapping().getKeyColumns().forEach(key -> keyColumns.add(key.getColumnName()));
+            }
+        });
+        if (keyColumns.size() != 1) {
+            throw new IllegalArgumentException("Cannot stream LOB field '" + column.fieldName() + "' of model "
+                    + metadata.modelName() + ": its table " + tableName + " is not keyed by a single column");
+        }
+
+        return "select " + entityPersister.getPropertyColumnNames(column.fieldName())[0]
+                + " from " + tableName
+                + " where " + keyColumns.get(0) + " = ?";
+    }
+
+    private void requireLobField(ModelMetadata metadata, String fieldName) {
+        reflectionService.getMetadata(metadata.entityClass()).getField(fieldName)
+                .filter(FieldMetadata::isLob)
+                .orElseThrow(() -> new IllegalArgumentException("Not a LOB field: " + fieldName));
+    }
+
+    private static long copy(InputStream in, OutputStream out, long length) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long remaining = length;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read < 0) {
+                break;
+            }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+        return length - remaining;
+    }
+
+    /**
+     * Create a strong entity tag for a LOB from its entity's {@code @Version} value, without reading it.
+     */
+    private static String entityTag(Object id, String fieldName, long length, Object version) {
+        return "\"" + id + "-" + fieldName + "-" + version + "-" + length + "\"";
+    }
+
+    /**
+     * Size and entity tag of a stored LOB.
+     *
+     * @param length size in bytes
+     * @param etag   quoted entity tag, or null if the entity has no {@code @Version}
+     */
+    public record LobDescriptor(long length, String etag) {
+    }
+
+    private record LobColumn(Class<?> entityClass, String fieldName) {
+    }
+
+    @FunctionalInterface
+    private interface BlobFunction<T> {
+
+        T apply(Blob blob) throws SQLException, IOException;
+    }
+}
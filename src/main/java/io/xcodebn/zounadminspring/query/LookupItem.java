@@ -0,0 +1,10 @@
+package io.xcodebn.zounadminspring.query;
+
+/**
+ * A single option of a relationship picker: the ID of an entity and its display label.
+ */
+public record LookupItem(
+    Object id,
+    String label
+) {
+}
@@ -0,0 +1,14 @@
+package io.xcodebn.zounadminspring.query;
+
+import java.util.List;
+
+/**
+ * A bounded page of relationship picker options.
+ * {@code next} is the value to pass as {@code after} to fetch the following page,
+ * or null if this is the last page.
+ */
+public record LookupPage(
+    List<LookupItem> items,
+    String next
+) {
+}
@@ -0,0 +1,346 @@
+package io.xcodebn.zounadminspring.query;
+
+import io.xcodebn.zounadminspring.config.AdminPersistence;
+import io.xcodebn.zounadminspring.config.AdminUIProperties;
+import io.xcodebn.zounadminspring.core.EntityMetadata;
+import io.xcodebn.zounadminspring.core.EntityReflectionService;
+import io.xcodebn.zounadminspring.core.FieldMetadata;
+import io.xcodebn.zounadminspring.core.ModelMetadata;
+import io.xcodebn.zounadminspring.util.FieldAccessors;
+import io.xcodebn.zounadminspring.web.ConversionResult;
+import io.xcodebn.zounadminspring.web.TypeConverter;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Hibernate;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Serves relationship picker options as bounded pages of {@code {id, label}} pairs.
+ * Uses a prefix match on the model's label column and keyset paging on the ID,
+ * so a lookup never reads more than one page of the target table.
+ */
+@Service
+public class LookupService {
+
+    /**
+     * Field names tried, in order, when no label field is configured for a model.
+     */
+    private static final List<String> LABEL_FIELD_CANDIDATES = List.of("name", "title", "label", "username", "email");
+
+    private static final Logger log = LoggerFactory.getLogger(LookupService.class);
+
+    private final EntityManager entityManager;
+    private final EntityReflectionService reflectionService;
+    private final TypeConverter typeConverter;
+    private final AdminUIProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int lookupConcurrency;
+    private final Semaphore lookupPermits;
+
+    private final Map<Class<?>, LookupColumns> lookupColumns = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public LookupService(AdminPersistence persistence,
+                         EntityReflectionService reflectionService,
+                         TypeConverter typeConverter,
+                         AdminUIProperties properties) {
+        this.entityManager = persistence.getEntityManager();
+        this.reflectionService = reflectionService;
+        this.typeConverter = typeConverter;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(persistence.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.lookupConcurrency = lookupConcurrency(properties.getLookupConcurrency(), persistence.getMaximumPoolSize());
+        this.lookupPermits = new Semaphore(lookupConcurrency);
+    }
+
+    /**
+     * Bound the label queries running at once, across all requests, below the size of the pool
+     * admin reads use: each query holds a connection while the request that started it holds
+     * another one, its open-in-view entity manager's.
+     */
+    private static int lookupConcurrency(int configured, int maximumPoolSize) {
+        int concurrency = Math.max(1, configured);
+        if (maximumPoolSize > 0 && concurrency >= maximumPoolSize) {
+            int limited = Math.max(1, maximumPoolSize - 1);
+            log.info("Relationship label queries limited to {} at once, below the {} connections of the admin reads' pool "
+                     + "(lookup-concurrency is {})", limited, maximumPoolSize, configured);
+            return limited;
+        }
+        return concurrency;
+    }
+
+    /**
+     * Find one page of options whose label starts with the given prefix.
+     * When the label is not a text field, e.g. a configured numeric {@code label-field} or the ID
+     * of a model without text fields, the query is converted to the label's type and matched
+     * exactly instead; a query that is not a value of that type matches nothing.
+     *
+     * @param query label prefix, or exact label value for non-text labels, or null/blank for all entities
+     * @param after ID of the last option of the previous page, or null for the first page
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public LookupPage lookup(ModelMetadata metadata, String query, Object after) {
+        LookupColumns columns = getLookupColumns(metadata);
+        int pageSize = properties.getLookupPageSize();
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+        Root<?> root = criteria.from(metadata.entityClass());
+        Path<Comparable> idPath = root.get(columns.idField());
+        Path<Object> labelPath = root.get(columns.labelField());
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (query != null && !query.isBlank()) {
+            if (columns.textLabel()) {
+                // Prefix match keeps an index on the label column usable
+                predicates.add(cb.like(root.get(columns.labelField()), escapeLike(query.trim()) + "%", '\\'));
+            } else {
+                ConversionResult value = typeConverter.tryConvert(query, columns.labelType());
+                predicates.add(value.isSuccess() && value.value() != null
+                                       ? cb.equal(labelPath, value.value())
+                                       : cb.disjunction());
+            }
+        }
+        if (after != null) {
+            predicates.add(cb.greaterThan(idPath, (Comparable) after));
+        }
+
+        criteria.multiselect(idPath, labelPath)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(idPath));
+
+        List<Tuple> tuples = entityManager.createQuery(criteria)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setMaxResults(pageSize + 1)
+                .getResultList();
+
+        boolean hasNext = tuples.size() > pageSize;
+        List<LookupItem> items = new ArrayList<>(Math.min(tuples.size(), pageSize));
+        for (Tuple tuple : tuples.subList(0, Math.min(tuples.size(), pageSize))) {
+            items.add(toItem(tuple));
+        }
+
+        String next = hasNext ? String.valueOf(items.get(items.size() - 1).id()) : null;
+        return new LookupPage(items, next);
+    }
+
+    /**
+     * Find the option for a single entity by ID.
+     */
+    public Optional<LookupItem> findById(ModelMetadata metadata, Object id) {
+        return findById(metadata, id, null);
+    }
+
+    /**
+     * Find the option for a single entity by ID, within a query timeout if one is given.
+     */
+    private Optional<LookupItem> findById(ModelMetadata metadata, Object id, Duration timeout) {
+        LookupColumns columns = getLookupColumns(metadata);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+        Root<?> root = criteria.from(metadata.entityClass());
+        Path<Object> idPath = root.get(columns.idField());
+
+        criteria.multiselect(idPath, root.get(columns.labelField()))
+                .where(cb.equal(idPath, id));
+
+        TypedQuery<Tuple> query = entityManager.createQuery(criteria)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (timeout != null) {
+            query.setHint(SpecHints.HINT_SPEC_QUERY_TIMEOUT, timeout.toMillis());
+        }
+        return query.getResultStream()
+                .findFirst()
+                .map(this::toItem);
+    }
+
+    /**
+     * Describe a related entity as an option.
+     * Reads the label from the entity if it is already loaded, otherwise queries
+     * only its label column instead of initializing the lazy proxy.
+     */
+    public LookupItem describe(ModelMetadata metadata, Object entity) {
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        Object id = persistenceUnitUtil.getIdentifier(entity);
+
+        if (persistenceUnitUtil.isLoaded(entity)) {
+            Object label = FieldAccessors.require(metadata.entityClass(), getLookupColumns(metadata).labelField())
+                    .get(Hibernate.unproxy(entity));
+            return new LookupItem(id, label != null ? label.toString() : String.valueOf(id));
+        }
+
+        return findById(metadata, id).orElseGet(() -> new LookupItem(id, String.valueOf(id)));
+    }
+
+    /**
+     * Describe the entities selected in several relationships of one form.
+     * Loaded entities are described directly. The labels of the others are queried concurrently
+     * on virtual threads, each in its own read-only transaction and within {@code lookup-timeout},
+     * at most {@code lookup-concurrency} at a time across all requests and fewer than the connections
+     * of the admin reads' pool, so the form waits about as long as the slowest query. A label that could not be read in time falls back to the ID.
+     *
+     * @return the option of each selection, keyed by field name
+     */
+    public Map<String, LookupItem> describeAll(List<Selection> selections) {
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        Map<String, LookupItem> items = new LinkedHashMap<>();
+        List<Selection> unloaded = new ArrayList<>();
+        for (Selection selection : selections) {
+            if (persistenceUnitUtil.isLoaded(selection.entity())) {
+                items.put(selection.fieldName(), describe(selection.target(), selection.entity()));
+            } else {
+                unloaded.add(selection);
+            }
+        }
+
+        if (unloaded.size() <= 1 || lookupConcurrency == 1) {
+            // Nothing to overlap, or no connection to spare for it
+            for (Selection selection : unloaded) {
+                items.put(selection.fieldName(), describe(selection.target(), selection.entity()));
+            }
+            return items;
+        }
+
+        Duration timeout = properties.getLookupTimeout();
+
+        // Indexed like `unloaded`; selections are not used as keys, hashing an entity may initialize it
+        List<Object> ids = new ArrayList<>(unloaded.size());
+        List<Future<Optional<LookupItem>>> futures = new ArrayList<>(unloaded.size());
+        for (Selection selection : unloaded) {
+            Object id = persistenceUnitUtil.getIdentifier(selection.entity());
+            ids.add(id);
+            futures.add(executor.submit(ReadRouting.propagate(() -> {
+                lookupPermits.acquire();
+                try {
+                    return readOnlyTransaction.execute(status -> findById(selection.target(), id, timeout));
+                } finally {
+                    lookupPermits.release();
+                }
+            })));
+        }
+
+        // Queries run in waves of at most `lookupConcurrency`, each bounded by the timeout
+        int waves = (unloaded.size() + lookupConcurrency - 1) / lookupConcurrency;
+        long deadline = System.nanoTime() + timeout.toNanos() * waves;
+        for (int i = 0; i < unloaded.size(); i++) {
+            Selection selection = unloaded.get(i);
+            Object id = ids.get(i);
+            Future<Optional<LookupItem>> future = futures.get(i);
+            LookupItem item;
+            try {
+                item = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS).orElse(null);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.debug("Timed out reading the label of {} {}", selection.target().modelName(), id);
+                item = null;
+            } catch (ExecutionException e) {
+                log.debug("Failed to read the label of {} {}: {}", selection.target().modelName(), id,
+                          e.getCause().getMessage());
+                item = null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                item = null;
+            }
+            items.put(selection.fieldName(), item != null ? item : new LookupItem(id, String.valueOf(id)));
+        }
+        return items;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private LookupItem toItem(Tuple tuple) {
+        Object id = tuple.get(0);
+        Object label = tuple.get(1);
+        return new LookupItem(id, label != null ? label.toString() : String.valueOf(id));
+    }
+
+    private LookupColumns getLookupColumns(ModelMetadata metadata) {
+        return lookupColumns.computeIfAbsent(metadata.entityClass(), type -> resolveLookupColumns(metadata));
+    }
+
+    /**
+     * Resolve the ID and label columns of a model.
+     * The label is the configured label field, a well-known name field, the first
+     * text field, or the ID itself, in that order.
+     */
+    private LookupColumns resolveLookupColumns(ModelMetadata metadata) {
+        EntityMetadata entityMetadata = reflectionService.getMetadata(metadata.entityClass());
+        FieldMetadata idField = entityMetadata.getIdField()
+                .orElseThrow(() -> new IllegalArgumentException("Model has no ID field: " + metadata.modelName()));
+
+        String configuredLabel = properties.getModel(metadata.modelName()).getLabelField();
+        FieldMetadata labelField;
+        if (configuredLabel != null && !configuredLabel.isBlank()) {
+            labelField = entityMetadata.getField(configuredLabel)
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Label field '" + configuredLabel + "' not found in model " + metadata.modelName()));
+        } else {
+            labelField = LABEL_FIELD_CANDIDATES.stream()
+                    .map(entityMetadata::getField)
+                    .flatMap(Optional::stream)
+                    .filter(f -> f.fieldType() == FieldMetadata.FieldType.STRING)
+                    .findFirst()
+                    .or(() -> entityMetadata.fields().stream()
+                            .filter(f -> f.fieldType() == FieldMetadata.FieldType.STRING)
+                            .filter(FieldMetadata::isVisible)
+                            .findFirst())
+                    .orElse(idField);
+        }
+
+        return new LookupColumns(idField.name(), labelField.name(), labelField.type(),
+                                 labelField.fieldType() == FieldMetadata.FieldType.STRING);
+    }
+
+    /**
+     * Escape LIKE wildcards in user input.
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * The entity selected in a to-one relationship field of a form.
+     *
+     * @param fieldName name of the relationship field
+     * @param target    metadata of the related model
+     * @param entity    the related entity or its proxy
+     */
+    public record Selection(String fieldName, ModelMetadata target, Object entity) {
+    }
+
+    private record LookupColumns(String idField, String labelField, Class<?> labelType, boolean textLabel) {
+    }
+}
@@ -0,0 +1,90 @@
+package io.xcodebn.zounadminspring.query;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate listener that marks a model changed in the {@link ModelChangeTracker} once an
+ * insert, update or delete of one of its entities is committed, so writes made by the host
+ * application through JPA invalidate admin caches as well.
+ * Runs after commit, so a cache cannot be refilled with the rows the write is replacing.
+ * Bulk JPQL/SQL statements do not fire entity events; the admin marks its own bulk actions itself.
+ */
+@Component
+public class ModelChangeEventListener implements PostCommitInsertEventListener,
+                                                 PostCommitUpdateEventListener,
+                                                 PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ModelChangeTracker changeTracker;
+
+    public ModelChangeEventListener(EntityManagerFactory entityManagerFactory,
+                                    ModelChangeTracker changeTracker) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.changeTracker = changeTracker;
+    }
+
+    /**
+     * Register this listener with the Hibernate session factory.
+     */
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        markChanged(event.getPersister());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        markChanged(event.getPersister());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        markChanged(event.getPersister());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was written
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Nothing was written
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Nothing was written
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return true;
+    }
+
+    private void markChanged(EntityPersister persister) {
+        // Model names are entity simple names, see AdminModelRegistry
+        changeTracker.markChanged(persister.getMappedClass().getSimpleName());
+    }
+}
@@ -0,0 +1,87 @@
+package io.xcodebn.zounadminspring.query;
+
+import io.xcodebn.zounadminspring.core.EntityReflectionService;
+import io.xcodebn.zounadminspring.core.FieldMetadata;
+import io.xcodebn.zounadminspring.core.ModelMetadata;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks a change counter per model, incremented on every write the admin knows about:
+ * its own saves, deletes, imports and bulk actions, and entity writes committed through
+ * Hibernate (see {@link ModelChangeEventListener}).
+ * Caches derived from a model's rows compare counters to detect that they are stale.
+ * Counters start at 0 in every process; {@link #getEpoch()} tells processes apart.
+ */
+@Component
+public class ModelChangeTracker {
+
+    private final EntityReflectionService reflectionService;
+    private final long epoch = System.currentTimeMillis();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * Models whose writes change a model's list pages, keyed by model name.
+     */
+    private final Map<String, List<String>> listDependencies = new ConcurrentHashMap<>();
+
+    public ModelChangeTracker(EntityReflectionService reflectionService) {
+        this.reflectionService = reflectionService;
+    }
+
+    /**
+     * Record that rows of a model were created, updated or deleted.
+     */
+    public void markChanged(String modelName) {
+        generations.computeIfAbsent(modelName, name -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Get the current change counter of a model.
+     */
+    public long getGeneration(String modelName) {
+        AtomicLong generation = generations.get(modelName);
+        return generation != null ? generation.get() : 0L;
+    }
+
+    /**
+     * Get a counter that changes whenever a list page of a model may change: the sum of the
+     * counters of the model and of the models shown in its relationship list columns.
+     * Counters only grow, so the sum changes whenever any of them does.
+     */
+    public long getListGeneration(ModelMetadata metadata) {
+        long generation = 0;
+        for (String modelName : listDependencies.computeIfAbsent(metadata.modelName(),
+                                                                 m -> findListDependencies(metadata))) {
+            generation += getGeneration(modelName);
+        }
+        return generation;
+    }
+
+    /**
+     * Get the time this tracker was created, which identifies its counters.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    private List<String> findListDependencies(ModelMetadata metadata) {
+        List<String> modelNames = new ArrayList<>();
+        modelNames.add(metadata.modelName());
+        for (FieldMetadata field : reflectionService.getMetadata(metadata.entityClass()).listFields()) {
+            if (field.isRelationship()) {
+                // Model names are entity simple names, see AdminModelRegistry
+                String target = field.relationshipMetadata().targetEntity().getSimpleName();
+                if (!modelNames.contains(target)) {
+                    modelNames.add(target);
+                }
+            }
+        }
+        return List.copyOf(modelNames);
+    }
+}
@@ -0,0 +1,18 @@
+package io.xcodebn.zounadminspring.query;
+
+/**
+ * How list views are paginated.
+ */
+public enum PaginationMode {
+
+    /**
+     * Page numbers with LIMIT/OFFSET and a total count.
+     */
+    OFFSET,
+
+    /**
+     * Seek pagination on (sort column, ID) with opaque next/previous cursors and no count.
+     * Every page costs the same, however deep into the table it is.
+     */
+    KEYSET
+}
@@ -0,0 +1,17 @@
+package io.xcodebn.zounadminspring.query;
+
+/**
+ * What happens when an admin request executes more SQL statements than its budget.
+ */
+public enum QueryBudgetAction {
+
+    /**
+     * Log a warning when the request completes.
+     */
+    WARN,
+
+    /**
+     * Fail the statement that exceeds the budget, and with it the request.
+     */
+    FAIL
+}
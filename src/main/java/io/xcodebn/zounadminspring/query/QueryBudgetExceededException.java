@@ -0,0 +1,13 @@
+package io.xcodebn.zounadminspring.query;
+
+/**
+ * Thrown when an admin request executes more SQL statements than its budget allows
+ * and the budget action is {@link QueryBudgetAction#FAIL}.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(int statementCount, int statementBudget, String sql) {
+        super("Query budget exceeded: statement " + statementCount + " of a budget of "
+              + statementBudget + " (" + sql + ")");
+    }
+}
@@ -0,0 +1,56 @@
+package io.xcodebn.zounadminspring.query;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Whether admin reads on the current thread must see the current session's own recent writes,
+ * and so go to the primary database rather than the replica when admin reads are routed to a
+ * replica (see {@code zoun.admin.ui.datasource.replica}). Bound to the request thread between
+ * {@link #readFromPrimary()} and {@link #end()}; work handed to other threads takes it along
+ * with {@link #propagate}. Reads on threads without it go to the replica.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    /**
+     * Send admin reads on the current thread to the primary.
+     */
+    public static void readFromPrimary() {
+        PRIMARY.set(Boolean.TRUE);
+    }
+
+    /**
+     * Check whether admin reads on the current thread go to the primary.
+     */
+    public static boolean isReadingFromPrimary() {
+        return PRIMARY.get() != null;
+    }
+
+    /**
+     * Send admin reads on the current thread back to the replica.
+     */
+    public static void end() {
+        PRIMARY.remove();
+    }
+
+    /**
+     * Wrap a task so it reads from where the current thread reads, whichever thread runs it.
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        if (!isReadingFromPrimary()) {
+            return task;
+        }
+        return () -> {
+            readFromPrimary();
+            try {
+                return task.call();
+            } finally {
+                end();
+            }
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package io.xcodebn.zounadminspring.query;
+
+/**
+ * Number of rows of a model, and whether it is exact or an estimate.
+ */
+public record RowCount(
+    long value,
+    boolean exact
+) {
+}
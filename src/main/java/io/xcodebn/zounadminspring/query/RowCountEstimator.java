@@ -0,0 +1,26 @@
+package io.xcodebn.zounadminspring.query;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.Dialect;
+
+import java.util.OptionalLong;
+
+/**
+ * Database-specific hook that reads an approximate row count from the database statistics,
+ * used by the {@link CountStrategy#APPROXIMATE} count strategy.
+ * Register implementations as Spring beans to support additional databases.
+ */
+public interface RowCountEstimator {
+
+    /**
+     * Check if this estimator supports the database of the given dialect.
+     */
+    boolean supports(Dialect dialect);
+
+    /**
+     * Estimate the number of rows of a table.
+     *
+     * @return the estimate, or empty if the database has no statistics for the table
+     */
+    OptionalLong estimate(EntityManager entityManager, String tableName);
+}
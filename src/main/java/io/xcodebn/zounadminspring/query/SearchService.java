@@ -0,0 +1,191 @@
+package io.xcodebn.zounadminspring.query;
+
+import io.xcodebn.zounadminspring.config.AdminUIProperties;
+import io.xcodebn.zounadminspring.core.EntityMetadata;
+import io.xcodebn.zounadminspring.core.EntityReflectionService;
+import io.xcodebn.zounadminspring.core.FieldMetadata;
+import io.xcodebn.zounadminspring.core.ModelMetadata;
+import io.xcodebn.zounadminspring.web.ConversionResult;
+import io.xcodebn.zounadminspring.web.TypeConverter;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the list view search filter of a model.
+ * Text fields are matched by prefix so a B-tree index on the column stays usable;
+ * contains matching is opt-in per field. Numeric and ID fields only match exactly,
+ * after the search term was parsed to the field type by {@link TypeConverter}.
+ */
+@Service
+public class SearchService {
+
+    private static final Set<FieldMetadata.FieldType> NUMERIC_TYPES = EnumSet.of(
+            FieldMetadata.FieldType.INTEGER,
+            FieldMetadata.FieldType.LONG,
+            FieldMetadata.FieldType.DOUBLE,
+            FieldMetadata.FieldType.FLOAT);
+
+    private final EntityReflectionService reflectionService;
+    private final TypeConverter typeConverter;
+    private final AdminUIProperties properties;
+
+    private final Map<SearchKey, SearchPlan> plans = new ConcurrentHashMap<>();
+
+    public SearchService(EntityReflectionService reflectionService,
+                         TypeConverter typeConverter,
+                         AdminUIProperties properties) {
+        this.reflectionService = reflectionService;
+        this.typeConverter = typeConverter;
+        this.properties = properties;
+    }
+
+    /**
+     * Create the filter for a search term.
+     *
+     * @return the filter, or empty if the term is blank
+     */
+    public Optional<Specification<Object>> toSpecification(ModelMetadata metadata, String search) {
+        if (search == null || search.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(getPlan(metadata).toSpecification(search.trim()));
+    }
+
+    /**
+     * Get the compiled plan for the model's current search configuration.
+     */
+    private SearchPlan getPlan(ModelMetadata metadata) {
+        AdminUIProperties.ModelProperties modelProperties = properties.getModel(metadata.modelName());
+        SearchKey key = new SearchKey(metadata.modelName(),
+                                      List.copyOf(modelProperties.getSearchFields()),
+                                      Set.copyOf(modelProperties.getContainsSearchFields()));
+        return plans.computeIfAbsent(key, k -> compile(metadata.entityClass(), k));
+    }
+
+    /**
+     * Resolve the searchable fields of an entity and how each is matched.
+     * Without configured search fields, every visible text, enum and numeric column is searched.
+     */
+    private SearchPlan compile(Class<?> entityClass, SearchKey key) {
+        EntityMetadata entityMetadata = reflectionService.getMetadata(entityClass);
+
+        List<FieldMetadata> fields;
+        if (key.fields().isEmpty()) {
+            fields = entityMetadata.fields().stream()
+                    .filter(f -> f.isVisible() && !f.isLob())
+                    .filter(f -> isSearchable(f) || f.isId())
+                    .toList();
+        } else {
+            fields = key.fields().stream()
+                    .map(name -> entityMetadata.getField(name)
+                            .orElseThrow(() -> new IllegalArgumentException(
+                                    "Search field '" + name + "' not found in model " + key.modelName())))
+                    .toList();
+        }
+
+        List<SearchTerm> terms = new ArrayList<>(fields.size());
+        for (FieldMetadata field : fields) {
+            if (field.isTransient() || field.isLob() || field.isRelationship()) {
+                throw new IllegalArgumentException("Cannot search by field: " + field.name());
+            }
+            terms.add(new SearchTerm(field, matchMode(field, key.containsFields())));
+        }
+        return new SearchPlan(List.copyOf(terms));
+    }
+
+    private static boolean isSearchable(FieldMetadata field) {
+        return field.fieldType() == FieldMetadata.FieldType.STRING
+                || field.fieldType() == FieldMetadata.FieldType.ENUM
+                || NUMERIC_TYPES.contains(field.fieldType());
+    }
+
+    private static MatchMode matchMode(FieldMetadata field, Set<String> containsFields) {
+        return switch (field.fieldType()) {
+            case STRING -> containsFields.contains(field.name()) ? MatchMode.CONTAINS : MatchMode.PREFIX;
+            case ENUM -> MatchMode.ENUM;
+            default -> MatchMode.EXACT;
+        };
+    }
+
+    /**
+     * Escape LIKE wildcards in user input.
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private enum MatchMode {
+        PREFIX,
+        CONTAINS,
+        ENUM,
+        EXACT
+    }
+
+    private record SearchKey(String modelName, List<String> fields, Set<String> containsFields) {
+    }
+
+    private record SearchTerm(FieldMetadata field, MatchMode mode) {
+    }
+
+    /**
+     * Compiled search over a fixed set of fields; matches if any field matches.
+     */
+    private final class SearchPlan {
+
+        private final List<SearchTerm> terms;
+
+        SearchPlan(List<SearchTerm> terms) {
+            this.terms = terms;
+        }
+
+        Specification<Object> toSpecification(String search) {
+            String pattern = escapeLike(search);
+            return (root, query, cb) -> {
+                List<Predicate> predicates = new ArrayList<>(terms.size());
+                for (SearchTerm term : terms) {
+                    Predicate predicate = toPredicate(root, term, search, pattern, cb);
+                    if (predicate != null) {
+                        predicates.add(predicate);
+                    }
+                }
+                // No field can match the term (e.g. text on numeric fields only): match nothing
+                return predicates.isEmpty() ? cb.disjunction() : cb.or(predicates.toArray(new Predicate[0]));
+            };
+        }
+
+        private Predicate toPredicate(Root<Object> root, SearchTerm term, String search,
+                                      String pattern, CriteriaBuilder cb) {
+            String name = term.field().name();
+            return switch (term.mode()) {
+                // Typed paths, not as(String.class), which would wrap the column in a CAST
+                case PREFIX -> cb.like(root.<String>get(name), pattern + "%", '\\');
+                case CONTAINS -> cb.like(root.<String>get(name), "%" + pattern + "%", '\\');
+                case ENUM -> {
+                    String prefix = search.toUpperCase(Locale.ROOT);
+                    List<?> constants = Arrays.stream(term.field().type().getEnumConstants())
+                            .filter(c -> ((Enum<?>) c).name().startsWith(prefix))
+                            .toList();
+                    yield constants.isEmpty() ? null : root.get(name).in(constants);
+                }
+                case EXACT -> {
+                    // Terms that are not a value of this field's type are skipped
+                    ConversionResult result = typeConverter.tryConvert(search, term.field().type());
+                    yield result.isSuccess() && result.value() != null ? cb.equal(root.get(name), result.value()) : null;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.xcodebn.zounadminspring.query;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+
+import java.util.function.Function;
+
+/**
+ * Runs admin reads through a Hibernate {@link StatelessSession} on the connection of the current
+ * transaction, when {@code stateless-reads} is enabled. A stateless session has no persistence
+ * context: loaded entities are neither tracked nor snapshotted and nothing is ever flushed, but
+ * lazy attributes the query did not fetch cannot be loaded afterwards.
+ */
+final class StatelessReads {
+
+    private StatelessReads() {
+    }
+
+    /**
+     * Run work with a stateless session sharing the connection of the entity manager's transaction.
+     */
+    static <T> T call(EntityManager entityManager, Function<StatelessSession, T> work) {
+        Session session = entityManager.unwrap(Session.class);
+        return session.doReturningWork(connection -> {
+            try (StatelessSession statelessSession = session.getSessionFactory().openStatelessSession(connection)) {
+                return work.apply(statelessSession);
+            }
+        });
+    }
+}
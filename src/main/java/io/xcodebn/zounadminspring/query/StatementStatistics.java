@@ -0,0 +1,215 @@
+package io.xcodebn.zounadminspring.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Per-request statistics about the SQL statements Hibernate executed, and when the
+ * request was handled. Bound to the request thread between {@link #begin} and {@link #end()};
+ * statements run outside such a scope are not recorded.
+ * Statements are grouped by shape (the SQL with IN lists collapsed), so a statement repeated
+ * once per row, the usual sign of an N+1 fetch, stands out. A statement budget can be set;
+ * exceeding it either marks the statistics or fails the statement.
+ */
+public final class StatementStatistics {
+
+    private static final ThreadLocal<StatementStatistics> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Maximum number of individual statements kept for display; all of them are counted.
+     */
+    private static final int MAX_RECORDED_STATEMENTS = 500;
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\?(?:\\s*,\\s*\\?)+\\)");
+
+    private final long startNanos = System.nanoTime();
+    private final int statementBudget;
+    private final QueryBudgetAction budgetAction;
+    private final List<Statement> statements = new ArrayList<>();
+    private final Map<String, StatementShape> shapes = new LinkedHashMap<>();
+    private Statement executing;
+    private long executionStartNanos;
+    private long handledNanos;
+    private int statementCount;
+
+    private StatementStatistics(int statementBudget, QueryBudgetAction budgetAction) {
+        this.statementBudget = statementBudget;
+        this.budgetAction = budgetAction;
+    }
+
+    /**
+     * Start recording statements on the current thread.
+     *
+     * @param statementBudget maximum number of statements, or 0 for no budget
+     * @param budgetAction    what to do once the budget is exceeded
+     */
+    public static StatementStatistics begin(int statementBudget, QueryBudgetAction budgetAction) {
+        StatementStatistics statistics = new StatementStatistics(statementBudget, budgetAction);
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Get the statistics bound to the current thread, or null if none are being recorded.
+     */
+    public static StatementStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stop recording statements on the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(String sql) {
+        statementCount++;
+
+        String shapeSql = sql.indexOf('?') >= 0 ? IN_LIST.matcher(sql).replaceAll("(?...)") : sql;
+        StatementShape shape = shapes.computeIfAbsent(shapeSql, StatementShape::new);
+        shape.count++;
+
+        Statement statement = new Statement(sql, shape);
+        if (statements.size() < MAX_RECORDED_STATEMENTS) {
+            statements.add(statement);
+        }
+        executing = statement;
+
+        if (budgetAction == QueryBudgetAction.FAIL && isOverBudget()) {
+            throw new QueryBudgetExceededException(statementCount, statementBudget, shapeSql);
+        }
+    }
+
+    void executionStarted() {
+        executionStartNanos = System.nanoTime();
+    }
+
+    void executionEnded() {
+        if (executing != null && executionStartNanos != 0) {
+            long nanos = System.nanoTime() - executionStartNanos;
+            executing.nanos += nanos;
+            executing.shape.nanos += nanos;
+        }
+        executionStartNanos = 0;
+    }
+
+    /**
+     * Get the number of statements executed so far.
+     */
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * Get the statement budget, or 0 if there is none.
+     */
+    public int getStatementBudget() {
+        return statementBudget;
+    }
+
+    /**
+     * Check whether more statements than the budget allows were executed.
+     */
+    public boolean isOverBudget() {
+        return statementBudget > 0 && statementCount > statementBudget;
+    }
+
+    /**
+     * Get the statements executed so far, in order (at most the first 500).
+     */
+    public List<Statement> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+
+    /**
+     * Get the statement shapes executed at least {@code threshold} times, most frequent first.
+     */
+    public List<StatementShape> getRepeatedShapes(int threshold) {
+        return shapes.values().stream()
+                .filter(shape -> shape.count >= threshold)
+                .sorted((a, b) -> Integer.compare(b.count, a.count))
+                .toList();
+    }
+
+    /**
+     * Mark the end of request handling, i.e. the start of view rendering.
+     */
+    public void markHandled() {
+        handledNanos = System.nanoTime();
+    }
+
+    /**
+     * Get the {@link System#nanoTime()} at which recording started.
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Get the {@link System#nanoTime()} at which handling ended, or 0 if not marked yet.
+     */
+    public long getHandledNanos() {
+        return handledNanos;
+    }
+
+    /**
+     * One executed statement and the time spent executing it.
+     */
+    public static final class Statement {
+
+        private final String sql;
+        private final StatementShape shape;
+        private long nanos;
+
+        Statement(String sql, StatementShape shape) {
+            this.sql = sql;
+            this.shape = shape;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public double getMillis() {
+            return nanos / 1_000_000.0;
+        }
+
+        /**
+         * Get how many times a statement of this shape ran in the request.
+         */
+        public int getShapeCount() {
+            return shape.count;
+        }
+    }
+
+    /**
+     * A statement shape and how often, and how long, it ran.
+     */
+    public static final class StatementShape {
+
+        private final String sql;
+        private int count;
+        private long nanos;
+
+        StatementShape(String sql) {
+            this.sql = sql;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public double getMillis() {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
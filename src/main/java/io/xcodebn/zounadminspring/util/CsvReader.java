@@ -0,0 +1,89 @@
+package io.xcodebn.zounadminspring.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 CSV reader, the counterpart of {@link CsvWriter}.
+ * Supports quoted fields with doubled quotes and embedded line breaks, and both
+ * CRLF and LF line endings. Reads one record at a time, so input size does not matter.
+ */
+public class CsvReader {
+
+    private static final int SEPARATOR = ',';
+    private static final int QUOTE = '"';
+
+    private final Reader reader;
+    private int pending = -2;
+
+    /**
+     * @param reader the input; wrap it in a {@link java.io.BufferedReader} for efficiency
+     */
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Read the next record.
+     *
+     * @return the field values, or null at the end of the input
+     */
+    public List<String> readRow() throws IOException {
+        int c = next();
+        if (c < 0) {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new IOException("Unterminated quoted field");
+                }
+                if (c == QUOTE) {
+                    int following = next();
+                    if (following == QUOTE) {
+                        value.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    value.append((char) c);
+                }
+            } else if (c == QUOTE && value.isEmpty()) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\r' || c == '\n' || c < 0) {
+                if (c == '\r') {
+                    int following = next();
+                    if (following != '\n') {
+                        pending = following;
+                    }
+                }
+                values.add(value.toString());
+                return values;
+            } else {
+                value.append((char) c);
+            }
+            c = next();
+        }
+    }
+
+    private int next() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
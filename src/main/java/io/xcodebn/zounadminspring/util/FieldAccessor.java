@@ -0,0 +1,95 @@
+package io.xcodebn.zounadminspring.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Compiled getter/setter pair for a single entity field.
+ * Backed by method handles adapted to {@code (Object)Object} and {@code (Object,Object)void},
+ * so access costs no reflective lookups after the accessor has been created.
+ */
+public final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final String name;
+    private final Class<?> type;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private FieldAccessor(String name, Class<?> type, MethodHandle getter, MethodHandle setter) {
+        this.name = name;
+        this.type = type;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Compile an accessor for the given field.
+     */
+    static FieldAccessor compile(Field field) throws IllegalAccessException {
+        field.setAccessible(true);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        MethodHandle setter = Modifier.isFinal(field.getModifiers())
+                ? null
+                : lookup.unreflectSetter(field).asType(SETTER_TYPE);
+
+        return new FieldAccessor(field.getName(), field.getType(), getter, setter);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Check if the field can be written.
+     */
+    public boolean isWritable() {
+        return setter != null;
+    }
+
+    /**
+     * Read the field value from the target object.
+     */
+    public Object get(Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to read field '" + name + "'", t);
+        }
+    }
+
+    /**
+     * Write a value to the field of the target object.
+     */
+    public void set(Object target, Object value) {
+        if (setter == null) {
+            throw new UnsupportedOperationException("Field '" + name + "' is final");
+        }
+        if (value == null && type.isPrimitive()) {
+            throw new IllegalArgumentException("Cannot assign null to primitive field '" + name + "'");
+        }
+        try {
+            setter.invokeExact(target, value);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Cannot assign " + value.getClass().getName()
+                    + " to field '" + name + "' of type " + type.getName(), e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to write field '" + name + "'", t);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.xcodebn.zounadminspring.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-class cache of compiled {@link FieldAccessor}s, stored in a {@link ClassValue}.
+ * Accessors cover every instance field of the class and its superclasses;
+ * fields declared in a subclass shadow same-named fields of a superclass.
+ */
+public final class FieldAccessors {
+
+    private static final ClassValue<Map<String, FieldAccessor>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, FieldAccessor> computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private FieldAccessors() {
+    }
+
+    /**
+     * Get all accessors of a class, keyed by field name.
+     */
+    public static Map<String, FieldAccessor> forClass(Class<?> clazz) {
+        return ACCESSORS.get(clazz);
+    }
+
+    /**
+     * Find the accessor of a field in a class hierarchy.
+     *
+     * @return the accessor, or null if the class has no such field
+     */
+    public static FieldAccessor find(Class<?> clazz, String fieldName) {
+        return ACCESSORS.get(clazz).get(fieldName);
+    }
+
+    /**
+     * Find the accessor of a field, failing if it does not exist.
+     */
+    public static FieldAccessor require(Class<?> clazz, String fieldName) {
+        FieldAccessor accessor = find(clazz, fieldName);
+        if (accessor == null) {
+            throw new IllegalArgumentException("Field not found: " + fieldName);
+        }
+        return accessor;
+    }
+
+    /**
+     * Drop the compiled accessors of a class (e.g. after dev-time class reloading).
+     */
+    public static void invalidate(Class<?> clazz) {
+        ACCESSORS.remove(clazz);
+    }
+
+    /**
+     * Compile accessors for all instance fields of a class including inherited ones.
+     */
+    private static Map<String, FieldAccessor> compile(Class<?> clazz) {
+        Map<String, FieldAccessor> accessors = new LinkedHashMap<>();
+        Class<?> currentClass = clazz;
+
+        while (currentClass != null && currentClass != Object.class) {
+            for (Field field : currentClass.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || accessors.containsKey(field.getName())) {
+                    continue;
+                }
+                try {
+                    accessors.put(field.getName(), FieldAccessor.compile(field));
+                } catch (IllegalAccessException | RuntimeException e) {
+                    // Inaccessible field (e.g. in a closed module) - leave it without an accessor
+                }
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+
+        return Collections.unmodifiableMap(accessors);
+    }
+}
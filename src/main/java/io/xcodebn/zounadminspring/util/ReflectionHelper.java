@@ -1,19 +1,18 @@
 package io.xcodebn.zounadminspring.util;
 
 import io.xcodebn.zounadminspring.core.FieldMetadata;
+import io.xcodebn.zounadminspring.query.EntityRow;
 import jakarta.validation.constraints.*;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.Field;
-
 /**
- * Thymeleaf utility bean for accessing entity field values via reflection.
+ * Thymeleaf utility bean for accessing entity field values via compiled field accessors.
  */
 @Component("reflectionHelper")
 public class  ReflectionHelper {
 
     /**
-     * Get the value of a field from an entity object.
+     * Get the value of a field from an entity object or a projected {@link EntityRow}.
      *
      * @param entity The entity object
      * @param fieldName The name of the field
@@ -24,17 +23,12 @@ public class  ReflectionHelper {
             return null;
         }
 
-        try {
-            Field field = findField(entity.getClass(), fieldName);
-            if (field == null) {
-                return null;
-            }
-
-            field.setAccessible(true);
-            return field.get(entity);
-        } catch (Exception e) {
-            return null;
+        if (entity instanceof EntityRow row) {
+            return row.get(fieldName);
         }
+
+        FieldAccessor accessor = FieldAccessors.find(entity.getClass(), fieldName);
+        return accessor != null ? accessor.get(entity) : null;
     }
 
     /**
@@ -67,19 +61,4 @@ public class  ReflectionHelper {
         }
         return (Size) field.validationAnnotations().get(Size.class);
     }
-
-    /**
-     * Find a field by name in a class hierarchy.
-     */
-    private Field findField(Class<?> clazz, String fieldName) {
-        Class<?> currentClass = clazz;
-        while (currentClass != null && currentClass != Object.class) {
-            try {
-                return currentClass.getDeclaredField(fieldName);
-            } catch (NoSuchFieldException e) {
-                currentClass = currentClass.getSuperclass();
-            }
-        }
-        return null;
-    }
 }
@@ -0,0 +1,29 @@
+package io.xcodebn.zounadminspring.web;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Thrown by {@link FormDataBinder} when one or more fields could not be bound.
+ * Holds the error of every failed field, not just the first one.
+ */
+public class BindingException extends IllegalArgumentException {
+
+    private final Map<String, String> fieldErrors;
+
+    public BindingException(Map<String, String> fieldErrors) {
+        super(fieldErrors.entrySet().stream()
+                .map(error -> error.getKey() + ": " + error.getValue())
+                .collect(Collectors.joining("; ", "Invalid values for ", "")));
+        this.fieldErrors = Collections.unmodifiableMap(new LinkedHashMap<>(fieldErrors));
+    }
+
+    /**
+     * Get the error message of each field that failed, keyed by field name.
+     */
+    public Map<String, String> getFieldErrors() {
+        return fieldErrors;
+    }
+}
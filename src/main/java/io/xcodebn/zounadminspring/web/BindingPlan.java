@@ -0,0 +1,90 @@
+package io.xcodebn.zounadminspring.web;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.lang.reflect.Constructor;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Precompiled binding steps for one entity class, built once by {@link FormDataBinder}.
+ * Each step binds one field with its accessor, converter and, for relationships,
+ * target model already resolved, so binding only runs the steps.
+ */
+final class BindingPlan {
+
+    private final Class<?> entityClass;
+    private final Constructor<?> constructor;
+    private final Step[] steps;
+
+    BindingPlan(Class<?> entityClass, Constructor<?> constructor, Step[] steps) {
+        this.entityClass = entityClass;
+        this.constructor = constructor;
+        this.steps = steps;
+    }
+
+    /**
+     * Create a new entity with the no-argument constructor.
+     */
+    Object newInstance() throws ReflectiveOperationException {
+        if (constructor == null) {
+            throw new NoSuchMethodException(entityClass.getName() + " has no no-argument constructor");
+        }
+        return constructor.newInstance();
+    }
+
+    /**
+     * Run all steps against an entity, collecting the failures of individual fields.
+     * Invalid values are reported by the steps themselves; exceptions are left to failures
+     * such as oversized uploads.
+     *
+     * @return field name to error message, empty if all fields were bound
+     */
+    Map<String, String> apply(Object entity,
+                              Map<String, String> formData,
+                              Map<String, MultipartFile> files,
+                              FormDataBinder.RelationshipResolver relationshipResolver) {
+        Map<String, String> errors = null;
+        for (Step step : steps) {
+            String error;
+            try {
+                error = step.bind(entity, formData, files, relationshipResolver);
+            } catch (Exception e) {
+                error = describe(e);
+            }
+            if (error != null) {
+                if (errors == null) {
+                    errors = new LinkedHashMap<>();
+                }
+                errors.put(step.fieldName(), error);
+            }
+        }
+        return errors != null ? errors : Map.of();
+    }
+
+    private static String describe(Exception e) {
+        String message = e.getMessage();
+        if (e instanceof NumberFormatException) {
+            return "Not a valid number: " + message;
+        }
+        return message != null ? message : e.getClass().getSimpleName();
+    }
+
+    /**
+     * Binds one field of an entity.
+     */
+    interface Step {
+
+        String fieldName();
+
+        /**
+         * Bind the field.
+         *
+         * @return the error message if the submitted value is invalid, otherwise null
+         */
+        String bind(Object entity,
+                    Map<String, String> formData,
+                    Map<String, MultipartFile> files,
+                    FormDataBinder.RelationshipResolver relationshipResolver) throws Exception;
+    }
+}
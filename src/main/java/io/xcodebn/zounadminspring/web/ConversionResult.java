@@ -0,0 +1,27 @@
+package io.xcodebn.zounadminspring.web;
+
+/**
+ * Outcome of {@link TypeConverter#tryConvert}: either a converted value or an error message.
+ *
+ * @param value converted value, null for blank input or on failure
+ * @param error error message, or null on success
+ */
+public record ConversionResult(
+    Object value,
+    String error
+) {
+
+    private static final ConversionResult EMPTY = new ConversionResult(null, null);
+
+    public static ConversionResult success(Object value) {
+        return value == null ? EMPTY : new ConversionResult(value, null);
+    }
+
+    public static ConversionResult failure(String error) {
+        return new ConversionResult(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,150 @@
+package io.xcodebn.zounadminspring.web;
+
+import io.xcodebn.zounadminspring.config.AdminPersistence;
+import io.xcodebn.zounadminspring.config.AdminUIProperties;
+import io.xcodebn.zounadminspring.core.EntityMetadata;
+import io.xcodebn.zounadminspring.core.EntityReflectionService;
+import io.xcodebn.zounadminspring.core.FieldMetadata;
+import io.xcodebn.zounadminspring.core.ModelMetadata;
+import io.xcodebn.zounadminspring.query.ModelChangeTracker;
+import io.xcodebn.zounadminspring.util.FieldAccessors;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Computes strong entity tags for admin pages, so conditional GETs can be answered with
+ * {@code 304 Not Modified} before any rendering.
+ * <p>
+ * List tags come from the {@link ModelChangeTracker#getListGeneration list generation} and need no
+ * query. They also change every {@code list-cache-ttl}, which bounds staleness for writes the
+ * tracker cannot see. Edit tags come from the entity's {@code @Version}, or a hash of its field
+ * values, plus the counters of the models it references. Both include the user's session, since
+ * pages embed per-session CSRF tokens. Pages showing flash messages or the debug panel get no tag.
+ */
+@Component
+public class EntityTagGenerator {
+
+    private final EntityManager entityManager;
+    private final EntityReflectionService reflectionService;
+    private final ModelChangeTracker changeTracker;
+    private final AdminUIProperties properties;
+
+    /**
+     * Name of the {@code @Version} attribute per entity class, empty if it has none.
+     */
+    private final Map<Class<?>, Optional<String>> versionAttributes = new ConcurrentHashMap<>();
+
+    public EntityTagGenerator(AdminPersistence persistence,
+                              EntityReflectionService reflectionService,
+                              ModelChangeTracker changeTracker,
+                              AdminUIProperties properties) {
+        this.entityManager = persistence.getEntityManager();
+        this.reflectionService = reflectionService;
+        this.changeTracker = changeTracker;
+        this.properties = properties;
+    }
+
+    /**
+     * Get the entity tag of a model's list page.
+     *
+     * @return the quoted tag, or null if the page must not be tagged
+     */
+    public String forList(ModelMetadata metadata, HttpServletRequest request) {
+        if (!isTaggable(request)) {
+            return null;
+        }
+        long ttlMillis = Math.max(1, properties.getListCacheTtl().toMillis());
+        long period = System.currentTimeMillis() / ttlMillis;
+        return tag("l", changeTracker.getListGeneration(metadata) + "." + period, request);
+    }
+
+    /**
+     * Get the entity tag of an entity's edit page.
+     *
+     * @return the quoted tag, or null if the page must not be tagged
+     */
+    public String forEntity(ModelMetadata metadata, Object entity, HttpServletRequest request) {
+        if (!isTaggable(request)) {
+            return null;
+        }
+        EntityMetadata entityMetadata = reflectionService.getMetadata(metadata.entityClass());
+
+        // Selected relationship options show labels of the referenced rows
+        long relatedGeneration = 0;
+        for (FieldMetadata field : entityMetadata.toOneRelationships()) {
+            // Model names are entity simple names, see AdminModelRegistry
+            String target = field.relationshipMetadata().targetEntity().getSimpleName();
+            relatedGeneration += changeTracker.getGeneration(target);
+        }
+
+        Optional<String> versionAttribute = versionAttributes.computeIfAbsent(metadata.entityClass(),
+                                                                              this::findVersionAttribute);
+        String state = versionAttribute.isPresent()
+                ? "v" + FieldAccessors.require(metadata.entityClass(), versionAttribute.get()).get(entity)
+                : "h" + Long.toHexString(hash(entityMetadata, entity));
+        return tag("e", state + "." + relatedGeneration, request);
+    }
+
+    private boolean isTaggable(HttpServletRequest request) {
+        Map<String, ?> flash = RequestContextUtils.getInputFlashMap(request);
+        return !properties.isDebug() && (flash == null || flash.isEmpty());
+    }
+
+    private String tag(String kind, String state, HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        int user = Objects.hash(request.getRemoteUser(), session != null ? session.getId() : null);
+        return "\"" + kind + "-" + Long.toString(changeTracker.getEpoch(), 36) + "-" + state
+                + "-" + Integer.toHexString(user) + "\"";
+    }
+
+    /**
+     * Hash the values of an entity's fields; relationships by the ID of the referenced row,
+     * LOBs other than byte arrays by presence only, since reading them would defeat the purpose.
+     */
+    private long hash(EntityMetadata entityMetadata, Object entity) {
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        long hash = 1;
+        for (FieldMetadata field : entityMetadata.fields()) {
+            if (field.isRelationship() && !field.relationshipMetadata().isToOne()) {
+                continue;
+            }
+            Object value = FieldAccessors.require(entityMetadata.entityClass(), field.name()).get(entity);
+            int valueHash;
+            if (value == null) {
+                valueHash = 0;
+            } else if (field.isRelationship()) {
+                valueHash = Objects.hashCode(persistenceUnitUtil.getIdentifier(value));
+            } else if (value instanceof byte[] bytes) {
+                valueHash = Arrays.hashCode(bytes);
+            } else if (field.isLob()) {
+                valueHash = 1;
+            } else {
+                valueHash = value.hashCode();
+            }
+            hash = 31 * hash + valueHash;
+        }
+        return hash;
+    }
+
+    private Optional<String> findVersionAttribute(Class<?> entityClass) {
+        try {
+            return entityManager.getMetamodel().entity(entityClass).getSingularAttributes().stream()
+                    .filter(SingularAttribute::isVersion)
+                    .map(SingularAttribute::getName)
+                    .findFirst();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -1,22 +1,38 @@
 package io.xcodebn.zounadminspring.web;
 
+import io.xcodebn.zounadminspring.config.AdminUIProperties;
 import io.xcodebn.zounadminspring.core.AdminModelRegistry;
 import io.xcodebn.zounadminspring.core.EntityReflectionService;
 import io.xcodebn.zounadminspring.core.FieldMetadata;
 import io.xcodebn.zounadminspring.core.ModelMetadata;
+import io.xcodebn.zounadminspring.util.FieldAccessor;
+import io.xcodebn.zounadminspring.util.FieldAccessors;
+import io.xcodebn.zounadminspring.util.SizeLimitedInputStream;
+import org.hibernate.engine.jdbc.BlobProxy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.lang.reflect.Field;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.sql.Blob;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Binds form data (Map of field names to values) to entity objects.
  * Handles type conversion, relationships, and file uploads.
+ * The binding of each entity class is compiled once into a {@link BindingPlan}.
  */
 @Component
 public class FormDataBinder {
@@ -26,171 +42,267 @@ public class FormDataBinder {
     private final TypeConverter typeConverter;
     private final EntityReflectionService reflectionService;
     private final AdminModelRegistry modelRegistry;
+    private final AdminUIProperties properties;
+
+    private final ClassValue<BindingPlan> bindingPlans = new ClassValue<>() {
+        @Override
+        protected BindingPlan computeValue(Class<?> type) {
+            return compilePlan(type);
+        }
+    };
 
     public FormDataBinder(TypeConverter typeConverter,
                           EntityReflectionService reflectionService,
-                          AdminModelRegistry modelRegistry) {
+                          AdminModelRegistry modelRegistry,
+                          AdminUIProperties properties) {
         this.typeConverter = typeConverter;
         this.reflectionService = reflectionService;
         this.modelRegistry = modelRegistry;
+        this.properties = properties;
     }
 
     /**
      * Bind form data to an entity instance.
      * Creates a new instance if entity is null.
+     *
+     * @throws BindingException if any field could not be bound, with the error of each such field
      */
     public <T> T bind(Map<String, String> formData,
                       Map<String, MultipartFile> files,
                       T entity,
                       Class<T> entityClass) throws Exception {
+        return bind(formData, files, entity, entityClass, this::findRelated);
+    }
+
+    /**
+     * Bind form data to an entity instance, resolving related entities with the given resolver.
+     * Creates a new instance if entity is null.
+     *
+     * @throws BindingException if any field could not be bound, with the error of each such field
+     */
+    public <T> T bind(Map<String, String> formData,
+                      Map<String, MultipartFile> files,
+                      T entity,
+                      Class<T> entityClass,
+                      RelationshipResolver relationshipResolver) throws Exception {
 
+        BindingPlan plan = bindingPlans.get(entityClass);
         if (entity == null) {
-            entity = entityClass.getDeclaredConstructor().newInstance();
+            entity = entityClass.cast(plan.newInstance());
+        }
+
+        Map<String, String> errors = plan.apply(entity, formData, files, relationshipResolver);
+        if (!errors.isEmpty()) {
+            log.debug("Failed to bind {}: {}", entityClass.getSimpleName(), errors);
+            throw new BindingException(errors);
         }
 
-        List<FieldMetadata> fields = reflectionService.inspect(entityClass);
+        return entity;
+    }
 
-        for (FieldMetadata fieldMetadata : fields) {
+    /**
+     * Compile the binding steps of an entity class.
+     */
+    private BindingPlan compilePlan(Class<?> entityClass) {
+        List<BindingPlan.Step> steps = new ArrayList<>();
+
+        for (FieldMetadata fieldMetadata : reflectionService.getMetadata(entityClass).fields()) {
             String fieldName = fieldMetadata.name();
 
-            // Skip transient, hidden, and ID fields (ID is usually auto-generated)
+            // Skip transient and hidden fields
             if (fieldMetadata.isTransient() || fieldMetadata.isHidden()) {
                 continue;
             }
 
-            // Handle file uploads for @Lob fields
-            if (fieldMetadata.isLob() && files != null && files.containsKey(fieldName)) {
-                bindFileField(entity, entityClass, fieldName, files.get(fieldName));
+            // To-many relationships need a different UI and are not bound
+            if (fieldMetadata.isRelationship() && !fieldMetadata.relationshipMetadata().isToOne()) {
                 continue;
             }
 
-            // Handle relationships
-            if (fieldMetadata.isRelationship()) {
-                bindRelationshipField(entity, entityClass, fieldName, fieldMetadata, formData);
+            FieldAccessor accessor = FieldAccessors.find(entityClass, fieldName);
+            if (accessor == null) {
+                log.warn("Field '{}' not found in class '{}'", fieldName, entityClass.getName());
                 continue;
             }
 
-            // Handle regular fields
-            if (formData.containsKey(fieldName)) {
-                bindSimpleField(entity, entityClass, fieldName, formData.get(fieldName), fieldMetadata.type());
+            if (fieldMetadata.isRelationship()) {
+                steps.add(relationshipStep(fieldMetadata, accessor));
+            } else {
+                steps.add(simpleStep(fieldMetadata, accessor));
             }
         }
 
-        return entity;
+        Constructor<?> constructor;
+        try {
+            constructor = entityClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            constructor = null;
+        }
+
+        return new BindingPlan(entityClass, constructor, steps.toArray(new BindingPlan.Step[0]));
     }
 
     /**
-     * Bind a simple (non-relationship) field.
+     * Step for a simple field, or a @Lob field that receives a file upload.
      */
-    private <T> void bindSimpleField(T entity, Class<T> entityClass, String fieldName, String value, Class<?> fieldType) {
-        try {
-            Field field = findField(entityClass, fieldName);
-            if (field == null) {
-                log.warn("Field '{}' not found in class '{}'", fieldName, entityClass.getName());
-                return;
+    private BindingPlan.Step simpleStep(FieldMetadata fieldMetadata, FieldAccessor accessor) {
+        String fieldName = fieldMetadata.name();
+        boolean lob = fieldMetadata.isLob();
+        Function<String, ConversionResult> converter = typeConverter.tryConverterFor(fieldMetadata.type());
+
+        return new BindingPlan.Step() {
+            @Override
+            public String fieldName() {
+                return fieldName;
             }
 
-            field.setAccessible(true);
-
-            Object convertedValue = typeConverter.convert(value, fieldType);
-            field.set(entity, convertedValue);
-
-        } catch (Exception e) {
-            log.error("Failed to bind field '{}': {}", fieldName, e.getMessage());
-            throw new RuntimeException("Failed to bind field '" + fieldName + "'", e);
-        }
+            @Override
+            public String bind(Object entity, Map<String, String> formData, Map<String, MultipartFile> files,
+                               RelationshipResolver relationshipResolver) throws Exception {
+                if (lob && files != null && files.containsKey(fieldName)) {
+                    bindFile(entity, accessor, files.get(fieldName));
+                } else if (formData.containsKey(fieldName)) {
+                    ConversionResult result = converter.apply(formData.get(fieldName));
+                    if (!result.isSuccess()) {
+                        return result.error();
+                    }
+                    accessor.set(entity, result.value());
+                }
+                return null;
+            }
+        };
     }
 
     /**
-     * Bind a relationship field (@ManyToOne, @OneToOne, etc.).
+     * Step for a to-one relationship, which expects the ID of the related entity.
+     * The target model is looked up when the step first runs, since the model registry
+     * may not be populated yet when the plan is compiled.
      */
-    private <T> void bindRelationshipField(T entity, Class<T> entityClass, String fieldName,
-                                           FieldMetadata fieldMetadata, Map<String, String> formData) {
-        try {
-            // For to-one relationships, expect the ID of the related entity
-            if (fieldMetadata.relationshipMetadata().isToOne()) {
+    private BindingPlan.Step relationshipStep(FieldMetadata fieldMetadata, FieldAccessor accessor) {
+        String fieldName = fieldMetadata.name();
+        String targetEntityName = fieldMetadata.relationshipMetadata().targetEntityName();
+
+        return new BindingPlan.Step() {
+            private volatile ModelMetadata targetModel;
+            private Function<String, ConversionResult> idConverter;
+
+            @Override
+            public String fieldName() {
+                return fieldName;
+            }
+
+            @Override
+            public String bind(Object entity, Map<String, String> formData, Map<String, MultipartFile> files,
+                               RelationshipResolver relationshipResolver) {
                 String relatedIdValue = formData.get(fieldName);
 
+                // No related entity selected, set to null
                 if (relatedIdValue == null || relatedIdValue.isBlank()) {
-                    // No related entity selected, set to null
-                    Field field = findField(entityClass, fieldName);
-                    if (field != null) {
-                        field.setAccessible(true);
-                        field.set(entity, null);
-                    }
-                    return;
+                    accessor.set(entity, null);
+                    return null;
                 }
 
-                // Fetch the related entity by ID
-                String targetEntityName = fieldMetadata.relationshipMetadata().targetEntityName();
-                ModelMetadata targetModel = modelRegistry.getModelMetadata(targetEntityName)
-                        .orElseThrow(() -> new IllegalStateException("Target entity '" + targetEntityName + "' not found"));
-
-                JpaRepository<?, ?> targetRepository = targetModel.repository();
-                Object relatedId = typeConverter.convert(relatedIdValue, targetModel.idClass());
-
-                @SuppressWarnings("unchecked")
-                JpaRepository<Object, Object> repo = (JpaRepository<Object, Object>) targetRepository;
-                Object relatedEntity = repo.findById(relatedId).orElse(null);
+                if (targetModel == null) {
+                    ModelMetadata model = modelRegistry.getModelMetadata(targetEntityName)
+                            .orElseThrow(() -> new IllegalStateException("Target entity '" + targetEntityName + "' not found"));
+                    idConverter = typeConverter.tryConverterFor(model.idClass());
+                    targetModel = model;
+                }
 
-                Field field = findField(entityClass, fieldName);
-                if (field != null) {
-                    field.setAccessible(true);
-                    field.set(entity, relatedEntity);
+                ConversionResult relatedId = idConverter.apply(relatedIdValue);
+                if (!relatedId.isSuccess()) {
+                    return relatedId.error();
                 }
+                accessor.set(entity, relationshipResolver.resolve(targetModel, relatedId.value()));
+                return null;
             }
-
-            // TODO: Handle to-many relationships (OneToMany, ManyToMany)
-            // For now, we'll skip these as they require more complex UI handling
-
-        } catch (Exception e) {
-            log.error("Failed to bind relationship field '{}': {}", fieldName, e.getMessage());
-            throw new RuntimeException("Failed to bind relationship field '" + fieldName + "'", e);
-        }
+        };
     }
 
     /**
-     * Bind a file upload to a @Lob byte[] field.
+     * Load a related entity through its repository.
      */
-    private <T> void bindFileField(T entity, Class<T> entityClass, String fieldName, MultipartFile file) {
-        try {
-            if (file.isEmpty()) {
-                return;
-            }
-
-            Field field = findField(entityClass, fieldName);
-            if (field == null) {
-                log.warn("Field '{}' not found in class '{}'", fieldName, entityClass.getName());
-                return;
-            }
-
-            field.setAccessible(true);
+    private Object findRelated(ModelMetadata targetModel, Object id) {
+        @SuppressWarnings("unchecked")
+        JpaRepository<Object, Object> repo = (JpaRepository<Object, Object>) targetModel.repository();
+        return repo.findById(id).orElse(null);
+    }
 
-            // Convert to byte array
-            byte[] fileData = file.getBytes();
-            field.set(entity, fileData);
+    /**
+     * Bind a file upload to a @Lob byte[] or Blob field.
+     * Blob fields get a proxy over the multipart stream, which Hibernate reads when the
+     * entity is flushed, so the file is never held on the heap; the stream is closed when the
+     * request completes. The size limit is enforced
+     * on the stream itself, for both field types.
+     */
+    private void bindFile(Object entity, FieldAccessor accessor, MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            return;
+        }
 
-            log.debug("Uploaded file '{}' ({} bytes) to field '{}'",
-                    file.getOriginalFilename(), fileData.length, fieldName);
+        long maxBytes = DataSize.ofMegabytes(properties.getMaxFileSizeMb()).toBytes();
+        if (file.getSize() > maxBytes) {
+            throw new IllegalArgumentException("File '" + file.getOriginalFilename()
+                    + "' exceeds the maximum size of " + properties.getMaxFileSizeMb() + " MB");
+        }
 
-        } catch (Exception e) {
-            log.error("Failed to bind file field '{}': {}", fieldName, e.getMessage());
-            throw new RuntimeException("Failed to bind file field '" + fieldName + "'", e);
+        InputStream content = new SizeLimitedInputStream(file.getInputStream(), maxBytes);
+        if (Blob.class.isAssignableFrom(accessor.getType())) {
+            closeAfterUse(content);
+            accessor.set(entity, BlobProxy.generateProxy(content, file.getSize()));
+        } else if (accessor.getType() == byte[].class) {
+            try (content) {
+                accessor.set(entity, content.readAllBytes());
+            }
+        } else {
+            content.close();
+            throw new IllegalArgumentException("Unsupported file field type: " + accessor.getType().getName());
         }
+
+        log.debug("Uploaded file '{}' ({} bytes) to field '{}'",
+                file.getOriginalFilename(), file.getSize(), accessor.getName());
     }
 
     /**
-     * Find a field by name in a class (including inherited fields).
+     * Close the stream of a Blob proxy once it has been read, which happens when the entity is
+     * flushed: when the current request completes, or else the current transaction.
      */
-    private Field findField(Class<?> clazz, String fieldName) {
-        Class<?> currentClass = clazz;
-        while (currentClass != null && currentClass != Object.class) {
+    private static void closeAfterUse(InputStream content) {
+        Runnable close = () -> {
             try {
-                return currentClass.getDeclaredField(fieldName);
-            } catch (NoSuchFieldException e) {
-                currentClass = currentClass.getSuperclass();
+                content.close();
+            } catch (IOException e) {
+                log.debug("Failed to close an upload stream: {}", e.getMessage());
             }
+        };
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.registerDestructionCallback(FormDataBinder.class.getName() + ".upload." + System.identityHashCode(content),
+                                               close, RequestAttributes.SCOPE_REQUEST);
+        } else if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    close.run();
+                }
+            });
+        } else {
+            log.debug("Upload stream bound outside a request and a transaction is left to the caller to close");
         }
-        return null;
+    }
+
+    /**
+     * Strategy for turning the ID of a related entity into the object set on a relationship field.
+     */
+    @FunctionalInterface
+    public interface RelationshipResolver {
+
+        /**
+         * Resolve a related entity.
+         *
+         * @return the entity, or null if it does not exist
+         */
+        Object resolve(ModelMetadata targetModel, Object id);
     }
 }
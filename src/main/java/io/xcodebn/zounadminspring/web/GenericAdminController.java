@@ -1,31 +1,58 @@
 package io.xcodebn.zounadminspring.web;
 
+import io.xcodebn.zounadminspring.bulk.BulkActionService;
+import io.xcodebn.zounadminspring.bulk.BulkSelection;
+import io.xcodebn.zounadminspring.bulk.ImportReport;
+import io.xcodebn.zounadminspring.bulk.ImportService;
 import io.xcodebn.zounadminspring.config.AdminUIProperties;
 import io.xcodebn.zounadminspring.core.AdminModelRegistry;
+import io.xcodebn.zounadminspring.core.EntityMetadata;
 import io.xcodebn.zounadminspring.core.EntityReflectionService;
 import io.xcodebn.zounadminspring.core.FieldMetadata;
 import io.xcodebn.zounadminspring.core.ModelMetadata;
+import io.xcodebn.zounadminspring.metrics.AdminMetrics;
+import io.xcodebn.zounadminspring.metrics.AdminOperation;
+import io.xcodebn.zounadminspring.metrics.MeteredOperation;
+import io.xcodebn.zounadminspring.query.DashboardCount;
+import io.xcodebn.zounadminspring.query.DashboardCountService;
+import io.xcodebn.zounadminspring.query.DataFormat;
+import io.xcodebn.zounadminspring.query.EntityQueryService;
+import io.xcodebn.zounadminspring.query.ExportService;
+import io.xcodebn.zounadminspring.query.ListPage;
+import io.xcodebn.zounadminspring.query.ListRequest;
+import io.xcodebn.zounadminspring.query.LobService;
+import io.xcodebn.zounadminspring.query.LookupItem;
+import io.xcodebn.zounadminspring.query.LookupPage;
+import io.xcodebn.zounadminspring.query.LookupService;
+import io.xcodebn.zounadminspring.query.ModelChangeTracker;
+import io.xcodebn.zounadminspring.query.ReadRouting;
+import io.xcodebn.zounadminspring.query.StatementStatistics;
+import io.xcodebn.zounadminspring.util.FieldAccessors;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.util.UriUtils;
 
-import java.lang.reflect.Field;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Generic controller that handles CRUD operations for all discovered JPA entities.
@@ -37,18 +64,53 @@ public class GenericAdminController {
 
     private static final Logger log = LoggerFactory.getLogger(GenericAdminController.class);
 
+    /**
+     * Flash attribute with the values of a rejected submission, shown again in the form.
+     */
+    private static final String FORM_VALUES_ATTRIBUTE = "formValues";
+
     private final AdminModelRegistry modelRegistry;
     private final EntityReflectionService reflectionService;
     private final FormDataBinder formDataBinder;
+    private final EntityQueryService queryService;
+    private final LookupService lookupService;
+    private final LobService lobService;
+    private final ExportService exportService;
+    private final ImportService importService;
+    private final BulkActionService bulkActionService;
+    private final ModelChangeTracker changeTracker;
+    private final DashboardCountService dashboardCountService;
+    private final EntityTagGenerator entityTags;
+    private final AdminMetrics metrics;
     private final AdminUIProperties properties;
 
     public GenericAdminController(AdminModelRegistry modelRegistry,
                                   EntityReflectionService reflectionService,
                                   FormDataBinder formDataBinder,
+                                  EntityQueryService queryService,
+                                  LookupService lookupService,
+                                  LobService lobService,
+                                  ExportService exportService,
+                                  ImportService importService,
+                                  BulkActionService bulkActionService,
+                                  ModelChangeTracker changeTracker,
+                                  DashboardCountService dashboardCountService,
+                                  EntityTagGenerator entityTags,
+                                  AdminMetrics metrics,
                                   AdminUIProperties properties) {
         this.modelRegistry = modelRegistry;
         this.reflectionService = reflectionService;
         this.formDataBinder = formDataBinder;
+        this.queryService = queryService;
+        this.lookupService = lookupService;
+        this.lobService = lobService;
+        this.exportService = exportService;
+        this.importService = importService;
+        this.bulkActionService = bulkActionService;
+        this.changeTracker = changeTracker;
+        this.dashboardCountService = dashboardCountService;
+        this.entityTags = entityTags;
+        this.metrics = metrics;
         this.properties = properties;
     }
 
@@ -60,49 +122,64 @@ public class GenericAdminController {
         model.addAttribute("models", modelRegistry.getAllModels());
         model.addAttribute("basePath", properties.getBasePath());
         model.addAttribute("appTitle", properties.getAppTitle());
+        model.addAttribute("debug", properties.isDebug());
+        model.addAttribute("queryStats", StatementStatistics.current());
+        model.addAttribute("repeatedStatementThreshold", properties.getRepeatedStatementThreshold());
     }
 
     /**
      * Dashboard - List all available entities.
+     * Row counts are rendered as cached; counts still being computed are polled from /dashboard/counts.
      */
     @GetMapping({"", "/"})
     public String dashboard(Model model) {
         Map<String, ModelMetadata> models = modelRegistry.getAllModels();
         model.addAttribute("models", models);
+        Map<String, DashboardCount> counts = dashboardCountService.getCounts();
+        model.addAttribute("counts", counts);
+        model.addAttribute("countsPending", counts.values().stream().anyMatch(DashboardCount::loading));
         model.addAttribute("appTitle", properties.getAppTitle());
         return "zoun-admin-ui/index";
     }
 
+    /**
+     * Dashboard counts - Current row counts of all models, keyed by model name.
+     */
+    @GetMapping(value = "/dashboard/counts", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public Map<String, DashboardCount> dashboardCounts() {
+        return dashboardCountService.getCounts();
+    }
+
     /**
      * List view - Paginated table of entities.
+     * Answers 304 to a matching If-None-Match without querying.
      */
     @GetMapping("/models/{modelName}")
+    @MeteredOperation(AdminOperation.LIST)
     public String listEntities(@PathVariable String modelName,
                                @RequestParam(defaultValue = "0") int page,
                                @RequestParam(defaultValue = "id") String sortBy,
                                @RequestParam(defaultValue = "asc") String sortDir,
+                               @RequestParam(required = false) String cursor,
                                @RequestParam(required = false) String search,
+                               ServletWebRequest webRequest,
                                Model model) {
 
         ModelMetadata metadata = modelRegistry.getModelMetadata(modelName)
                 .orElseThrow(() -> new IllegalArgumentException("Model not found: " + modelName));
 
+        if (checkNotModified(webRequest, entityTags.forList(metadata, webRequest.getRequest()))) {
+            return null;
+        }
+
         // Get field metadata for table headers
-        List<FieldMetadata> fields = reflectionService.inspect(metadata.entityClass());
-        List<FieldMetadata> visibleFields = fields.stream()
-                .filter(FieldMetadata::isVisible)
-                .filter(f -> !f.isLob()) // Don't show LOB fields in table
-                .limit(10) // Limit columns to avoid clutter
-                .collect(Collectors.toList());
+        List<FieldMetadata> visibleFields = reflectionService.getMetadata(metadata.entityClass()).listFields();
 
         // Fetch paginated data
-        Sort sort = sortDir.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
-        Pageable pageable = PageRequest.of(page, properties.getPageSize(), sort);
-
-        @SuppressWarnings("unchecked")
-        JpaRepository<Object, Object> repository = (JpaRepository<Object, Object>) metadata.repository();
-
-        Page<Object> entityPage = repository.findAll(pageable);
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        ListPage entityPage = queryService.findPage(metadata, new ListRequest(page, sortBy, direction, cursor, search));
+        metrics.recordRows(modelName, AdminOperation.LIST, entityPage.getContent().size());
 
         model.addAttribute("modelName", modelName);
         model.addAttribute("fields", visibleFields);
@@ -110,6 +187,8 @@ public class GenericAdminController {
         model.addAttribute("page", entityPage);
         model.addAttribute("sortBy", sortBy);
         model.addAttribute("sortDir", sortDir);
+        model.addAttribute("search", search);
+        model.addAttribute("bulkFields", bulkActionService.getUpdatableFields(metadata.entityClass()));
         model.addAttribute("appTitle", properties.getAppTitle());
 
         return "zoun-admin-ui/list";
@@ -119,26 +198,18 @@ public class GenericAdminController {
      * Create form - Empty form for new entity.
      */
     @GetMapping("/models/{modelName}/new")
+    @MeteredOperation(AdminOperation.FORM)
     public String newEntityForm(@PathVariable String modelName, Model model) {
         ModelMetadata metadata = modelRegistry.getModelMetadata(modelName)
                 .orElseThrow(() -> new IllegalArgumentException("Model not found: " + modelName));
 
         List<FieldMetadata> fields = reflectionService.inspect(metadata.entityClass());
 
-        // For relationship fields, fetch available options
-        Map<String, List<Object>> relationshipOptions = new HashMap<>();
-        for (FieldMetadata field : fields) {
-            if (field.isRelationship() && field.relationshipMetadata().isToOne()) {
-                String targetEntityName = field.relationshipMetadata().targetEntityName();
-                List<Object> options = fetchAllEntities(targetEntityName);
-                relationshipOptions.put(field.name(), options);
-            }
-        }
-
         model.addAttribute("modelName", modelName);
         model.addAttribute("fields", fields);
         model.addAttribute("entity", null); // New entity
-        model.addAttribute("relationshipOptions", relationshipOptions);
+        model.addAttribute("relationshipSelections",
+                           withSubmittedSelections(metadata, model, Collections.emptyMap()));
         model.addAttribute("appTitle", properties.getAppTitle());
         model.addAttribute("isEdit", false);
 
@@ -147,10 +218,13 @@ public class GenericAdminController {
 
     /**
      * Edit form - Pre-populated form for existing entity.
+     * Answers 304 to a matching If-None-Match before resolving relationships and rendering.
      */
     @GetMapping("/models/{modelName}/edit/{id}")
+    @MeteredOperation(AdminOperation.FORM)
     public String editEntityForm(@PathVariable String modelName,
                                  @PathVariable String id,
+                                 ServletWebRequest webRequest,
                                  Model model) {
 
         ModelMetadata metadata = modelRegistry.getModelMetadata(modelName)
@@ -158,39 +232,138 @@ public class GenericAdminController {
 
         // Fetch the entity by ID
         Object entityId = convertId(id, metadata.idClass());
-
-        @SuppressWarnings("unchecked")
-        JpaRepository<Object, Object> repository = (JpaRepository<Object, Object>) metadata.repository();
-
-        Object entity = repository.findById(entityId)
+        Object entity = queryService.findById(metadata, entityId)
                 .orElseThrow(() -> new IllegalArgumentException("Entity not found: " + id));
 
-        List<FieldMetadata> fields = reflectionService.inspect(metadata.entityClass());
+        // A rejected submission redirected here must be shown, not answered with 304
+        if (!model.containsAttribute(FORM_VALUES_ATTRIBUTE)
+                && checkNotModified(webRequest, entityTags.forEntity(metadata, entity, webRequest.getRequest()))) {
+            return null;
+        }
 
-        // For relationship fields, fetch available options
-        Map<String, List<Object>> relationshipOptions = new HashMap<>();
-        for (FieldMetadata field : fields) {
-            if (field.isRelationship() && field.relationshipMetadata().isToOne()) {
-                String targetEntityName = field.relationshipMetadata().targetEntityName();
-                List<Object> options = fetchAllEntities(targetEntityName);
-                relationshipOptions.put(field.name(), options);
-            }
+        EntityMetadata entityMetadata = reflectionService.getMetadata(metadata.entityClass());
+        List<FieldMetadata> fields = entityMetadata.fields();
+
+        // For relationship fields, resolve only the currently selected options, concurrently
+        List<LookupService.Selection> selections = new ArrayList<>();
+        for (FieldMetadata field : entityMetadata.toOneRelationships()) {
+            findSelection(entity, field).ifPresent(selections::add);
         }
+        Map<String, LookupItem> relationshipSelections = lookupService.describeAll(selections);
 
         model.addAttribute("modelName", modelName);
         model.addAttribute("fields", fields);
         model.addAttribute("entity", entity);
-        model.addAttribute("relationshipOptions", relationshipOptions);
+        model.addAttribute("relationshipSelections", withSubmittedSelections(metadata, model, relationshipSelections));
         model.addAttribute("appTitle", properties.getAppTitle());
         model.addAttribute("isEdit", true);
 
         return "zoun-admin-ui/form";
     }
 
+    /**
+     * Relationship lookup - Bounded page of {id, label} options for relationship pickers.
+     */
+    @GetMapping(value = "/models/{modelName}/lookup", produces = MediaType.APPLICATION_JSON_VALUE)
+    @MeteredOperation(AdminOperation.LOOKUP)
+    @ResponseBody
+    public LookupPage lookup(@PathVariable String modelName,
+                             @RequestParam(required = false) String q,
+                             @RequestParam(required = false) String after) {
+
+        ModelMetadata metadata = modelRegistry.getModelMetadata(modelName)
+                .orElseThrow(() -> new IllegalArgumentException("Model not found: " + modelName));
+
+        Object afterId = after != null && !after.isBlank() ? convertId(after, metadata.idClass()) : null;
+        LookupPage lookupPage = lookupService.lookup(metadata, q, afterId);
+        metrics.recordRows(modelName, AdminOperation.LOOKUP, lookupPage.items().size());
+        return lookupPage;
+    }
+
+    /**
+     * Export handler - Stream all rows of a model (optionally filtered by search) as CSV or JSON lines.
+     */
+    @GetMapping("/models/{modelName}/export")
+    @MeteredOperation(AdminOperation.EXPORT)
+    public ResponseEntity<StreamingResponseBody> exportEntities(@PathVariable String modelName,
+                                                                @RequestParam(defaultValue = "csv") String format,
+                                                                @RequestParam(required = false) String search) {
+
+        ModelMetadata metadata = modelRegistry.getModelMetadata(modelName)
+                .orElseThrow(() -> new IllegalArgumentException("Model not found: " + modelName));
+        DataFormat dataFormat = DataFormat.fromParameter(format);
+
+        StreamingResponseBody body = withReadRouting(out -> {
+            long startTime = System.nanoTime();
+            long rows = exportService.export(metadata, dataFormat, search, out);
+            metrics.recordRender(modelName, AdminOperation.EXPORT, System.nanoTime() - startTime);
+            metrics.recordRows(modelName, AdminOperation.EXPORT, rows);
+        });
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + modelName + "." + dataFormat.getExtension() + "\"")
+                .contentType(dataFormat.getMediaType())
+                .body(body);
+    }
+
+    /**
+     * Import form - Upload a CSV or JSON lines file into a model.
+     */
+    @GetMapping("/models/{modelName}/import")
+    @MeteredOperation(AdminOperation.FORM)
+    public String importForm(@PathVariable String modelName, Model model) {
+        ModelMetadata metadata = modelRegistry.getModelMetadata(modelName)
+                .orElseThrow(() -> new IllegalArgumentException("Model not found: " + modelName));
+
+        model.addAttribute("modelName", modelName);
+        model.addAttribute("columns", exportService.getExportFields(metadata.entityClass()));
+        model.addAttribute("appTitle", properties.getAppTitle());
+
+        return "zoun-admin-ui/import";
+    }
+
+    /**
+     * Import handler - Bulk insert the rows of an uploaded file and show the import report.
+     */
+    @PostMapping("/models/{modelName}/import")
+    @MeteredOperation(AdminOperation.IMPORT)
+    public String importEntities(@PathVariable String modelName,
+                                 @RequestParam("file") MultipartFile file,
+                                 @RequestParam(required = false) String format,
+                                 @RequestParam(defaultValue = "0") long startRow,
+                                 Model model) throws IOException {
+
+        ModelMetadata metadata = modelRegistry.getModelMetadata(modelName)
+                .orElseThrow(() -> new IllegalArgumentException("Model not found: " + modelName));
+
+        // Use the explicit format, or derive it from the file extension
+        String extension = StringUtils.getFilenameExtension(file.getOriginalFilename());
+        DataFormat dataFormat = DataFormat.fromParameter(
+                format != null && !format.isBlank() ? format : extension != null ? extension : "csv");
+
+        ImportReport report;
+        try (InputStream input = file.getInputStream()) {
+            report = importService.importRows(metadata, dataFormat, input, startRow);
+        }
+        if (report.importedRows() > 0) {
+            changeTracker.markChanged(modelName);
+        }
+        metrics.recordRows(modelName, AdminOperation.IMPORT, report.importedRows());
+
+        model.addAttribute("modelName", modelName);
+        model.addAttribute("columns", exportService.getExportFields(metadata.entityClass()));
+        model.addAttribute("report", report);
+        model.addAttribute("appTitle", properties.getAppTitle());
+
+        return "zoun-admin-ui/import";
+    }
+
     /**
      * Save/Update handler - Process form submission.
      */
     @PostMapping("/models/{modelName}/save")
+    @MeteredOperation(AdminOperation.SAVE)
     public String saveEntity(@PathVariable String modelName,
                             @RequestParam Map<String, String> formData,
                             @RequestParam(required = false) Map<String, MultipartFile> files,
@@ -220,17 +393,27 @@ public class GenericAdminController {
 
             // Save entity
             repository.save(entity);
+            changeTracker.markChanged(modelName);
+            metrics.recordRows(modelName, AdminOperation.SAVE, 1);
 
             redirectAttributes.addFlashAttribute("successMessage",
                     "Successfully saved " + modelName);
 
             return "redirect:" + properties.getBasePath() + "/models/" + modelName;
 
+        } catch (BindingException e) {
+            log.warn("Failed to save entity: {}", e.getMessage());
+            redirectAttributes.addFlashAttribute("errorMessage", "Failed to save: " + e.getMessage());
+            redirectAttributes.addFlashAttribute("fieldErrors", e.getFieldErrors());
+            redirectAttributes.addFlashAttribute(FORM_VALUES_ATTRIBUTE, formData);
+            return redirectToForm(modelName, formData.get("id"));
+
         } catch (Exception e) {
             log.error("Failed to save entity: {}", e.getMessage(), e);
             redirectAttributes.addFlashAttribute("errorMessage",
                     "Failed to save: " + e.getMessage());
-            return "redirect:" + properties.getBasePath() + "/models/" + modelName + "/new";
+            redirectAttributes.addFlashAttribute(FORM_VALUES_ATTRIBUTE, formData);
+            return redirectToForm(modelName, formData.get("id"));
         }
     }
 
@@ -238,6 +421,7 @@ public class GenericAdminController {
      * Delete handler - Delete an entity by ID.
      */
     @PostMapping("/models/{modelName}/delete/{id}")
+    @MeteredOperation(AdminOperation.DELETE)
     public String deleteEntity(@PathVariable String modelName,
                               @PathVariable String id,
                               RedirectAttributes redirectAttributes) {
@@ -252,6 +436,8 @@ public class GenericAdminController {
             JpaRepository<Object, Object> repository = (JpaRepository<Object, Object>) metadata.repository();
 
             repository.deleteById(entityId);
+            changeTracker.markChanged(modelName);
+            metrics.recordRows(modelName, AdminOperation.DELETE, 1);
 
             redirectAttributes.addFlashAttribute("successMessage",
                     "Successfully deleted " + modelName);
@@ -266,42 +452,142 @@ public class GenericAdminController {
     }
 
     /**
-     * File download handler - Download @Lob byte[] fields.
+     * Bulk delete handler - Delete the selected rows, or all rows matching the current search.
      */
-    @GetMapping("/models/{modelName}/file/{id}/{fieldName}")
-    public ResponseEntity<byte[]> downloadFile(@PathVariable String modelName,
-                                               @PathVariable String id,
-                                               @PathVariable String fieldName) {
+    @PostMapping("/models/{modelName}/bulk-delete")
+    @MeteredOperation(AdminOperation.DELETE)
+    public String bulkDelete(@PathVariable String modelName,
+                             @RequestParam(required = false) List<String> ids,
+                             @RequestParam(defaultValue = "false") boolean allMatching,
+                             @RequestParam(required = false) String search,
+                             RedirectAttributes redirectAttributes) {
 
         try {
             ModelMetadata metadata = modelRegistry.getModelMetadata(modelName)
                     .orElseThrow(() -> new IllegalArgumentException("Model not found: " + modelName));
 
-            Object entityId = convertId(id, metadata.idClass());
+            long deleted = bulkActionService.delete(metadata, toSelection(metadata, ids, allMatching, search));
+            changeTracker.markChanged(modelName);
+            metrics.recordRows(modelName, AdminOperation.DELETE, deleted);
 
-            @SuppressWarnings("unchecked")
-            JpaRepository<Object, Object> repository = (JpaRepository<Object, Object>) metadata.repository();
+            redirectAttributes.addFlashAttribute("successMessage",
+                    "Successfully deleted " + deleted + " " + modelName + " records");
 
-            Object entity = repository.findById(entityId)
-                    .orElseThrow(() -> new IllegalArgumentException("Entity not found: " + id));
+        } catch (Exception e) {
+            log.error("Failed to bulk delete: {}", e.getMessage(), e);
+            redirectAttributes.addFlashAttribute("errorMessage",
+                    "Failed to delete: " + e.getMessage());
+        }
 
-            // Get the field value
-            Field field = findField(metadata.entityClass(), fieldName);
-            if (field == null) {
-                throw new IllegalArgumentException("Field not found: " + fieldName);
-            }
+        return "redirect:" + properties.getBasePath() + "/models/" + modelName;
+    }
+
+    /**
+     * Bulk update handler - Set one field of the selected rows, or of all rows matching the current search.
+     */
+    @PostMapping("/models/{modelName}/bulk-update")
+    @MeteredOperation(AdminOperation.SAVE)
+    public String bulkUpdate(@PathVariable String modelName,
+                             @RequestParam(required = false) List<String> ids,
+                             @RequestParam(defaultValue = "false") boolean allMatching,
+                             @RequestParam(required = false) String search,
+                             @RequestParam String field,
+                             @RequestParam(required = false) String value,
+                             RedirectAttributes redirectAttributes) {
+
+        try {
+            ModelMetadata metadata = modelRegistry.getModelMetadata(modelName)
+                    .orElseThrow(() -> new IllegalArgumentException("Model not found: " + modelName));
+
+            long updated = bulkActionService.update(metadata, toSelection(metadata, ids, allMatching, search),
+                                                    field, value);
+            changeTracker.markChanged(modelName);
+            metrics.recordRows(modelName, AdminOperation.SAVE, updated);
+
+            redirectAttributes.addFlashAttribute("successMessage",
+                    "Successfully updated " + updated + " " + modelName + " records");
+
+        } catch (Exception e) {
+            log.error("Failed to bulk update: {}", e.getMessage(), e);
+            redirectAttributes.addFlashAttribute("errorMessage",
+                    "Failed to update: " + e.getMessage());
+        }
 
-            field.setAccessible(true);
-            byte[] fileData = (byte[]) field.get(entity);
+        return "redirect:" + properties.getBasePath() + "/models/" + modelName;
+    }
 
-            if (fileData == null) {
+    /**
+     * File download handler - Stream a @Lob field, with support for single byte ranges.
+     * The entity is not loaded; only the LOB column is read, in chunks, while the response is written.
+     */
+    @GetMapping("/models/{modelName}/file/{id}/{fieldName}")
+    @MeteredOperation(AdminOperation.DOWNLOAD)
+    public ResponseEntity<StreamingResponseBody> downloadFile(@PathVariable String modelName,
+                                                              @PathVariable String id,
+                                                              @PathVariable String fieldName,
+                                                              @RequestHeader HttpHeaders requestHeaders) {
+
+        try {
+            ModelMetadata metadata = modelRegistry.getModelMetadata(modelName)
+                    .orElseThrow(() -> new IllegalArgumentException("Model not found: " + modelName));
+
+            Object entityId = convertId(id, metadata.idClass());
+
+            LobService.LobDescriptor lob = lobService.describe(metadata, entityId, fieldName).orElse(null);
+            if (lob == null) {
                 return ResponseEntity.notFound().build();
             }
 
-            return ResponseEntity.ok()
+            String etag = lob.etag();
+            if (etag != null && (requestHeaders.getIfNoneMatch().contains(etag)
+                                 || requestHeaders.getIfNoneMatch().contains("*"))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+
+            long length = lob.length();
+            long start = 0;
+            long end = length - 1;
+            boolean partial = false;
+
+            // Only honor a single range, and only if If-Range (when sent) still matches
+            String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+            if (ifRange == null || ifRange.equals(etag)) {
+                try {
+                    List<HttpRange> ranges = requestHeaders.getRange();
+                    if (ranges.size() == 1) {
+                        start = ranges.get(0).getRangeStart(length);
+                        end = ranges.get(0).getRangeEnd(length);
+                        partial = true;
+                    }
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                            .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                            .build();
+                }
+            }
+
+            long offset = start;
+            long count = end - start + 1;
+            StreamingResponseBody body = withReadRouting(out -> {
+                long startTime = System.nanoTime();
+                long written = lobService.write(metadata, entityId, fieldName, offset, count, out);
+                metrics.recordRender(modelName, AdminOperation.DOWNLOAD, System.nanoTime() - startTime);
+                metrics.recordBytes(modelName, AdminOperation.DOWNLOAD, written);
+            });
+
+            ResponseEntity.BodyBuilder response = ResponseEntity
+                    .status(partial ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
                     .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fieldName + "\"")
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
                     .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .body(fileData);
+                    .contentLength(count);
+            if (partial) {
+                response.header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+            if (etag != null) {
+                response.eTag(etag);
+            }
+            return response.body(body);
 
         } catch (Exception e) {
             log.error("Failed to download file: {}", e.getMessage(), e);
@@ -311,6 +597,84 @@ public class GenericAdminController {
 
     // Helper methods
 
+    /**
+     * Set the entity tag of a page and check it against the request's If-None-Match.
+     * Pages are private and revalidated on every use, since they depend on the session.
+     *
+     * @param etag the page's entity tag, or null if it has none
+     * @return true if a 304 response was prepared and rendering must be skipped
+     */
+    private boolean checkNotModified(ServletWebRequest webRequest, String etag) {
+        if (etag == null) {
+            return false;
+        }
+        if (webRequest.getResponse() != null) {
+            webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        }
+        return webRequest.checkNotModified(etag);
+    }
+
+    /**
+     * Make a streamed body read from where the request reads (see {@link ReadRouting}),
+     * as it is written on another thread.
+     */
+    private static StreamingResponseBody withReadRouting(StreamingResponseBody body) {
+        if (!ReadRouting.isReadingFromPrimary()) {
+            return body;
+        }
+        return out -> {
+            ReadRouting.readFromPrimary();
+            try {
+                body.writeTo(out);
+            } finally {
+                ReadRouting.end();
+            }
+        };
+    }
+
+    /**
+     * Redirect back to the form a submission came from: the edit form if it posted an ID.
+     */
+    private String redirectToForm(String modelName, String idValue) {
+        String basePath = properties.getBasePath() + "/models/" + modelName;
+        if (idValue == null || idValue.isBlank()) {
+            return "redirect:" + basePath + "/new";
+        }
+        return "redirect:" + basePath + "/edit/" + UriUtils.encodePathSegment(idValue, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Replace the selected options of the relationships a rejected submission set, which the form
+     * shows again, with the submitted ones.
+     */
+    private Map<String, LookupItem> withSubmittedSelections(ModelMetadata metadata, Model model,
+                                                            Map<String, LookupItem> selections) {
+        if (!(model.getAttribute(FORM_VALUES_ATTRIBUTE) instanceof Map<?, ?> formValues)) {
+            return selections;
+        }
+        Map<String, LookupItem> submitted = new LinkedHashMap<>(selections);
+        for (FieldMetadata field : reflectionService.getMetadata(metadata.entityClass()).toOneRelationships()) {
+            if (!(formValues.get(field.name()) instanceof String value)) {
+                continue;
+            }
+            if (value.isBlank()) {
+                submitted.remove(field.name());
+                continue;
+            }
+            modelRegistry.getModelMetadata(field.relationshipMetadata().targetEntityName()).ifPresent(target -> {
+                LookupItem item;
+                try {
+                    Object id = convertId(value, target.idClass());
+                    item = lookupService.findById(target, id).orElseGet(() -> new LookupItem(id, value));
+                } catch (IllegalArgumentException e) {
+                    item = new LookupItem(value, value);
+                }
+                submitted.put(field.name(), item);
+            });
+        }
+        return submitted;
+    }
+
     private Object convertId(String idValue, Class<?> idClass) {
         if (idClass == Long.class || idClass == long.class) {
             return Long.parseLong(idValue);
@@ -324,25 +688,23 @@ public class GenericAdminController {
         throw new IllegalArgumentException("Unsupported ID type: " + idClass.getName());
     }
 
-    private List<Object> fetchAllEntities(String modelName) {
-        return modelRegistry.getModelMetadata(modelName)
-                .map(metadata -> {
-                    @SuppressWarnings("unchecked")
-                    JpaRepository<Object, Object> repository = (JpaRepository<Object, Object>) metadata.repository();
-                    return repository.findAll();
-                })
-                .orElse(Collections.emptyList());
+    private BulkSelection toSelection(ModelMetadata metadata, List<String> ids, boolean allMatching, String search) {
+        if (allMatching) {
+            return BulkSelection.allMatching(search);
+        }
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("No records selected");
+        }
+        return BulkSelection.ofIds(ids.stream().map(id -> convertId(id, metadata.idClass())).toList());
     }
 
-    private Field findField(Class<?> clazz, String fieldName) {
-        Class<?> currentClass = clazz;
-        while (currentClass != null && currentClass != Object.class) {
-            try {
-                return currentClass.getDeclaredField(fieldName);
-            } catch (NoSuchFieldException e) {
-                currentClass = currentClass.getSuperclass();
-            }
+    private Optional<LookupService.Selection> findSelection(Object entity, FieldMetadata field) {
+        Object related = FieldAccessors.require(entity.getClass(), field.name()).get(entity);
+        if (related == null) {
+            return Optional.empty();
         }
-        return null;
+
+        return modelRegistry.getModelMetadata(field.relationshipMetadata().targetEntityName())
+                .map(target -> new LookupService.Selection(field.name(), target, related));
     }
 }
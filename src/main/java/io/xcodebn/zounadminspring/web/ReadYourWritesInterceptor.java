@@ -0,0 +1,70 @@
+package io.xcodebn.zounadminspring.web;
+
+import io.xcodebn.zounadminspring.config.AdminUIProperties;
+import io.xcodebn.zounadminspring.query.ReadRouting;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Lets a session read its own writes when admin reads go to a replica.
+ * Write requests (anything but GET, HEAD and OPTIONS) record their time in the session; for
+ * {@code read-your-writes-window} after that, the session's reads go to the primary, so e.g. the
+ * list page a save redirects to shows the saved row even while the replica lags.
+ */
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String LAST_WRITE_ATTRIBUTE = ReadYourWritesInterceptor.class.getName() + ".LAST_WRITE";
+
+    private final AdminUIProperties properties;
+
+    public ReadYourWritesInterceptor(AdminUIProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isWrite(request)) {
+            request.getSession().setAttribute(LAST_WRITE_ATTRIBUTE, System.currentTimeMillis());
+            ReadRouting.readFromPrimary();
+        } else if (wroteRecently(request.getSession(false))) {
+            ReadRouting.readFromPrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        ReadRouting.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        if (isWrite(request)) {
+            // The window starts once the write is committed, however long it took
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                session.setAttribute(LAST_WRITE_ATTRIBUTE, System.currentTimeMillis());
+            }
+        }
+        ReadRouting.end();
+    }
+
+    private boolean wroteRecently(HttpSession session) {
+        if (session == null) {
+            return false;
+        }
+        Object lastWrite = session.getAttribute(LAST_WRITE_ATTRIBUTE);
+        return lastWrite instanceof Long time
+                && System.currentTimeMillis() - time < properties.getDatasource().getReadYourWritesWindow().toMillis();
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        return method != HttpMethod.GET && method != HttpMethod.HEAD && method != HttpMethod.OPTIONS;
+    }
+}
@@ -0,0 +1,291 @@
+package io.xcodebn.zounadminspring.web;
+
+import java.math.BigDecimal;
+import java.text.ParsePosition;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The converters built into {@link TypeConverter}.
+ * All of them validate without throwing; see {@link #checked}.
+ */
+final class StandardConverters {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private static final String NOT_A_NUMBER = "Not a valid number: ";
+    private static final String NOT_A_DATE = "Not a valid date: ";
+    private static final String NOT_A_DATE_TIME = "Not a valid date and time: ";
+
+    private StandardConverters() {
+    }
+
+    /**
+     * Get the built-in converters, keyed by wrapper or reference type.
+     */
+    static List<ValueConverter<?>> all() {
+        return List.of(
+            of(String.class, value -> value),
+            checked(Integer.class, Integer::parseInt, StandardConverters::isInteger, NOT_A_NUMBER),
+            checked(Long.class, Long::parseLong, StandardConverters::isInteger, NOT_A_NUMBER),
+            checked(Short.class, Short::parseShort, StandardConverters::isInteger, NOT_A_NUMBER),
+            checked(Byte.class, Byte::parseByte, StandardConverters::isInteger, NOT_A_NUMBER),
+            checked(Double.class, Double::parseDouble, StandardConverters::isFloatingPoint, NOT_A_NUMBER),
+            checked(Float.class, Float::parseFloat, StandardConverters::isFloatingPoint, NOT_A_NUMBER),
+            checked(BigDecimal.class, BigDecimal::new, StandardConverters::isDecimal, NOT_A_NUMBER),
+            new BooleanConverter(),
+            new CharacterConverter(),
+            checked(UUID.class, UUID::fromString, StandardConverters::isUuid, "Not a valid UUID: "),
+
+            // Date types
+            checked(LocalDate.class, value -> LocalDate.parse(value, DATE_FORMATTER),
+                    value -> isParseable(value, DATE_FORMATTER), NOT_A_DATE),
+            checked(LocalDateTime.class, value -> LocalDateTime.parse(value, DATETIME_FORMATTER),
+                    value -> isParseable(value, DATETIME_FORMATTER), NOT_A_DATE_TIME),
+            checked(Instant.class, Instant::parse,
+                    value -> isParseable(value, DateTimeFormatter.ISO_INSTANT), NOT_A_DATE_TIME),
+            checked(OffsetDateTime.class, OffsetDateTime::parse,
+                    value -> isParseable(value, DateTimeFormatter.ISO_OFFSET_DATE_TIME), NOT_A_DATE_TIME),
+            checked(Date.class, value -> java.sql.Date.valueOf(LocalDate.parse(value, DATE_FORMATTER)),
+                    value -> isParseable(value, DATE_FORMATTER), NOT_A_DATE),
+            checked(java.sql.Date.class, value -> java.sql.Date.valueOf(LocalDate.parse(value, DATE_FORMATTER)),
+                    value -> isParseable(value, DATE_FORMATTER), NOT_A_DATE),
+            checked(Timestamp.class, value -> Timestamp.valueOf(LocalDateTime.parse(value, DATETIME_FORMATTER)),
+                    value -> isParseable(value, DATETIME_FORMATTER), NOT_A_DATE_TIME)
+        );
+    }
+
+    /**
+     * Create a converter for an enum type, looking constants up by name in a precomputed table.
+     */
+    static <E extends Enum<E>> ValueConverter<E> forEnum(Class<E> enumClass) {
+        return new EnumConverter<>(enumClass);
+    }
+
+    private static <T> ValueConverter<T> of(Class<T> targetType, Function<String, T> conversion) {
+        return new ValueConverter<>() {
+            @Override
+            public Class<T> getTargetType() {
+                return targetType;
+            }
+
+            @Override
+            public T convert(String value) {
+                return conversion.apply(value);
+            }
+        };
+    }
+
+    /**
+     * Converter that checks the form of a value before converting it, so malformed input fails
+     * without an exception and only well-formed but invalid values, e.g. out of range numbers or
+     * February 30, fall back to a caught one.
+     */
+    private static <T> ValueConverter<T> checked(Class<T> targetType, Function<String, T> conversion,
+                                                 Predicate<String> wellFormed, String error) {
+        return new ValueConverter<>() {
+            @Override
+            public Class<T> getTargetType() {
+                return targetType;
+            }
+
+            @Override
+            public T convert(String value) {
+                return conversion.apply(value);
+            }
+
+            @Override
+            public ConversionResult tryConvert(String value) {
+                if (!wellFormed.test(value)) {
+                    return ConversionResult.failure(error + value);
+                }
+                return ValueConverter.super.tryConvert(value);
+            }
+        };
+    }
+
+    private static boolean isInteger(String value) {
+        int start = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+        return digits(value, start) == value.length() && value.length() > start;
+    }
+
+    /**
+     * Check for a plain decimal number: optional sign, digits with an optional fraction, optional exponent.
+     */
+    private static boolean isDecimal(String value) {
+        int start = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+        int end = digits(value, start);
+        int integerDigits = end - start;
+        int fractionDigits = 0;
+        if (end < value.length() && value.charAt(end) == '.') {
+            int fractionEnd = digits(value, end + 1);
+            fractionDigits = fractionEnd - end - 1;
+            end = fractionEnd;
+        }
+        if (integerDigits + fractionDigits == 0) {
+            return false;
+        }
+        if (end < value.length() && (value.charAt(end) == 'e' || value.charAt(end) == 'E')) {
+            int exponentStart = end + 1;
+            if (exponentStart < value.length()
+                    && (value.charAt(exponentStart) == '-' || value.charAt(exponentStart) == '+')) {
+                exponentStart++;
+            }
+            end = digits(value, exponentStart);
+            if (end == exponentStart) {
+                return false;
+            }
+        }
+        return end == value.length();
+    }
+
+    /**
+     * Check for a decimal number or one of the special values {@code Double.parseDouble} accepts.
+     */
+    private static boolean isFloatingPoint(String value) {
+        return isDecimal(value) || value.equals("NaN") || value.equals("Infinity")
+                || value.equals("-Infinity") || value.equals("+Infinity");
+    }
+
+    /**
+     * Check for five groups of hex digits separated by dashes, as {@link UUID#fromString} expects.
+     */
+    private static boolean isUuid(String value) {
+        if (value.length() > 36) {
+            return false;
+        }
+        int groups = 1;
+        int groupLength = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '-') {
+                if (groupLength == 0) {
+                    return false;
+                }
+                groups++;
+                groupLength = 0;
+            } else if (Character.digit(c, 16) >= 0) {
+                groupLength++;
+            } else {
+                return false;
+            }
+        }
+        return groups == 5 && groupLength > 0;
+    }
+
+    /**
+     * Check that a value matches the layout of a formatter, without resolving its fields.
+     */
+    private static boolean isParseable(String value, DateTimeFormatter formatter) {
+        ParsePosition position = new ParsePosition(0);
+        return formatter.parseUnresolved(value, position) != null
+                && position.getErrorIndex() < 0
+                && position.getIndex() == value.length();
+    }
+
+    /**
+     * Get the index after the run of ASCII digits starting at an index.
+     */
+    private static int digits(String value, int start) {
+        int i = start;
+        while (i < value.length() && value.charAt(i) >= '0' && value.charAt(i) <= '9') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Checkbox-friendly boolean: "true", "on" and "1" are true, anything else is false.
+     */
+    private static final class BooleanConverter implements ValueConverter<Boolean> {
+
+        @Override
+        public Class<Boolean> getTargetType() {
+            return Boolean.class;
+        }
+
+        @Override
+        public Boolean convert(String value) {
+            return Boolean.parseBoolean(value) || value.equalsIgnoreCase("on") || value.equals("1");
+        }
+
+        @Override
+        public ConversionResult tryConvert(String value) {
+            return ConversionResult.success(convert(value));
+        }
+    }
+
+    private static final class CharacterConverter implements ValueConverter<Character> {
+
+        @Override
+        public Class<Character> getTargetType() {
+            return Character.class;
+        }
+
+        @Override
+        public Character convert(String value) {
+            if (value.length() != 1) {
+                throw new IllegalArgumentException("Not a single character: " + value);
+            }
+            return value.charAt(0);
+        }
+
+        @Override
+        public ConversionResult tryConvert(String value) {
+            return value.length() == 1
+                    ? ConversionResult.success(value.charAt(0))
+                    : ConversionResult.failure("Not a single character: " + value);
+        }
+    }
+
+    private static final class EnumConverter<E extends Enum<E>> implements ValueConverter<E> {
+
+        private final Class<E> enumClass;
+        private final Map<String, E> constants;
+
+        EnumConverter(Class<E> enumClass) {
+            this.enumClass = enumClass;
+            E[] values = enumClass.getEnumConstants();
+            this.constants = new HashMap<>(values.length * 2);
+            for (E constant : values) {
+                constants.put(constant.name(), constant);
+            }
+        }
+
+        @Override
+        public Class<E> getTargetType() {
+            return enumClass;
+        }
+
+        @Override
+        public E convert(String value) {
+            E constant = constants.get(value);
+            if (constant == null) {
+                throw new IllegalArgumentException(invalid(value));
+            }
+            return constant;
+        }
+
+        @Override
+        public ConversionResult tryConvert(String value) {
+            E constant = constants.get(value);
+            return constant != null ? ConversionResult.success(constant) : ConversionResult.failure(invalid(value));
+        }
+
+        private String invalid(String value) {
+            return "No " + enumClass.getSimpleName() + " constant named '" + value + "'";
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.xcodebn.zounadminspring.web;
+
+import io.xcodebn.zounadminspring.config.AdminUIProperties;
+import io.xcodebn.zounadminspring.core.AdminModelRegistry;
+import io.xcodebn.zounadminspring.metrics.AdminMetrics;
+import io.xcodebn.zounadminspring.metrics.AdminOperation;
+import io.xcodebn.zounadminspring.metrics.MeteredOperation;
+import io.xcodebn.zounadminspring.query.StatementStatistics;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the SQL statements executed while handling and rendering an admin request
+ * against the configured query budget, logs requests that exceed it or repeat a statement
+ * shape (likely N+1 fetches), and reports the handling time, render time and statement count of {@link MeteredOperation}
+ * handlers to {@link AdminMetrics}.
+ * For streamed responses only the handling part is reported here; the controller reports
+ * the streaming itself.
+ * The budget and the repeated statement report only apply to read (GET and HEAD) requests: saves,
+ * imports and bulk actions legitimately run one statement per row, and are only timed and counted.
+ */
+public class StatementStatisticsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementStatisticsInterceptor.class);
+
+    private static final String MODEL_NAME_VARIABLE = "modelName";
+
+    private final AdminUIProperties properties;
+    private final AdminMetrics metrics;
+    private final AdminModelRegistry modelRegistry;
+    private final Map<Method, Optional<AdminOperation>> operations = new ConcurrentHashMap<>();
+
+    public StatementStatisticsInterceptor(AdminUIProperties properties,
+                                          AdminMetrics metrics,
+                                          AdminModelRegistry modelRegistry) {
+        this.properties = properties;
+        this.metrics = metrics;
+        this.modelRegistry = modelRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        int budget = isRead(request) ? properties.getQueryBudget() : 0;
+        StatementStatistics.begin(budget, properties.getQueryBudgetAction());
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response,
+                           Object handler, ModelAndView modelAndView) {
+        StatementStatistics statistics = StatementStatistics.current();
+        if (statistics != null) {
+            statistics.markHandled();
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        StatementStatistics statistics = StatementStatistics.current();
+        if (statistics != null) {
+            statistics.markHandled();
+            record(request, handler, statistics, false);
+            report(request, statistics);
+        }
+        StatementStatistics.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        StatementStatistics statistics = StatementStatistics.current();
+        // The async dispatch of a streamed response was already recorded when streaming started
+        if (statistics != null && request.getDispatcherType() != DispatcherType.ASYNC) {
+            record(request, handler, statistics, true);
+            report(request, statistics);
+        }
+        StatementStatistics.end();
+    }
+
+    private void record(HttpServletRequest request, Object handler, StatementStatistics statistics, boolean rendered) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        AdminOperation operation = operations
+                .computeIfAbsent(handlerMethod.getMethod(), StatementStatisticsInterceptor::findOperation)
+                .orElse(null);
+        String modelName = getModelName(request);
+        if (operation == null || modelName == null || !modelRegistry.hasModel(modelName)) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long handled = statistics.getHandledNanos() != 0 ? statistics.getHandledNanos() : now;
+        metrics.recordQuery(modelName, operation, handled - statistics.getStartNanos());
+        if (rendered) {
+            metrics.recordRender(modelName, operation, now - handled);
+        }
+        metrics.recordStatements(modelName, operation, statistics.getStatementCount());
+    }
+
+    /**
+     * Log requests over the query budget and statements repeated more than the threshold.
+     */
+    private void report(HttpServletRequest request, StatementStatistics statistics) {
+        if (!log.isWarnEnabled() || !isRead(request)) {
+            return;
+        }
+        if (statistics.isOverBudget()) {
+            log.warn("{} {} executed {} SQL statements, over the query budget of {}",
+                     request.getMethod(), request.getRequestURI(),
+                     statistics.getStatementCount(), statistics.getStatementBudget());
+        }
+        List<StatementStatistics.StatementShape> repeated =
+                statistics.getRepeatedShapes(properties.getRepeatedStatementThreshold());
+        for (StatementStatistics.StatementShape shape : repeated) {
+            log.warn("{} {} executed the same statement {} times, likely an N+1 fetch: {}",
+                     request.getMethod(), request.getRequestURI(), shape.getCount(), shape.getSql());
+        }
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+    }
+
+    private static Optional<AdminOperation> findOperation(Method method) {
+        return Optional.ofNullable(method.getAnnotation(MeteredOperation.class)).map(MeteredOperation::value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String getModelName(HttpServletRequest request) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables instanceof Map<?, ?> map ? ((Map<String, String>) map).get(MODEL_NAME_VARIABLE) : null;
+    }
+}
@@ -1,119 +1,132 @@
 package io.xcodebn.zounadminspring.web;
 
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Utility for converting String form inputs to various Java types.
  * Handles primitives, wrappers, dates, enums, and more.
+ * Conversions come from a registry of {@link ValueConverter}s: the built-in ones, overridden
+ * or extended by {@link ValueConverter} beans. The converter of each target type is resolved
+ * once and cached in a {@link ClassValue}.
  */
 @Component
 public class TypeConverter {
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
-    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private final Map<Class<?>, ValueConverter<?>> registered = new HashMap<>();
+
+    private final ClassValue<ValueConverter<?>> converters = new ClassValue<>() {
+        @Override
+        protected ValueConverter<?> computeValue(Class<?> type) {
+            return resolveConverter(type);
+        }
+    };
+
+    /**
+     * @param customConverters converters that extend or replace the built-in ones
+     */
+    public TypeConverter(List<ValueConverter<?>> customConverters) {
+        for (ValueConverter<?> converter : StandardConverters.all()) {
+            registered.put(converter.getTargetType(), converter);
+        }
+        for (ValueConverter<?> converter : customConverters) {
+            registered.put(converter.getTargetType(), converter);
+        }
+    }
 
     /**
      * Convert a string value to the target type.
+     * Null or blank input converts to null; other input is trimmed first.
+     *
+     * @throws IllegalArgumentException if the value is invalid or the type is not supported
      */
     public Object convert(String value, Class<?> targetType) {
         if (value == null || value.isBlank()) {
             return null;
         }
+        return requireConverter(targetType).convert(value.trim());
+    }
 
-        value = value.trim();
-
-        // Handle primitives and common wrappers
-        if (targetType == String.class) {
-            return value;
-        }
-
-        if (targetType == Integer.class || targetType == int.class) {
-            return Integer.parseInt(value);
-        }
-
-        if (targetType == Long.class || targetType == long.class) {
-            return Long.parseLong(value);
-        }
-
-        if (targetType == Double.class || targetType == double.class) {
-            return Double.parseDouble(value);
-        }
-
-        if (targetType == Float.class || targetType == float.class) {
-            return Float.parseFloat(value);
-        }
-
-        if (targetType == Boolean.class || targetType == boolean.class) {
-            return Boolean.parseBoolean(value) || value.equalsIgnoreCase("on") || value.equals("1");
-        }
-
-        if (targetType == BigDecimal.class) {
-            return new BigDecimal(value);
-        }
-
-        // Date types
-        if (targetType == LocalDate.class) {
-            return LocalDate.parse(value, DATE_FORMATTER);
-        }
-
-        if (targetType == LocalDateTime.class) {
-            return LocalDateTime.parse(value, DATETIME_FORMATTER);
-        }
-
-        if (targetType == Date.class) {
-            // Convert from LocalDate
-            LocalDate localDate = LocalDate.parse(value, DATE_FORMATTER);
-            return java.sql.Date.valueOf(localDate);
+    /**
+     * Convert a string value to the target type without throwing for invalid input.
+     * Null or blank input converts to a successful null result.
+     */
+    public ConversionResult tryConvert(String value, Class<?> targetType) {
+        if (value == null || value.isBlank()) {
+            return ConversionResult.success(null);
         }
-
-        if (targetType == java.sql.Date.class) {
-            LocalDate localDate = LocalDate.parse(value, DATE_FORMATTER);
-            return java.sql.Date.valueOf(localDate);
-        }
-
-        if (targetType == java.sql.Timestamp.class) {
-            LocalDateTime localDateTime = LocalDateTime.parse(value, DATETIME_FORMATTER);
-            return java.sql.Timestamp.valueOf(localDateTime);
+        ValueConverter<?> converter = converters.get(targetType);
+        if (converter == null) {
+            return ConversionResult.failure("Unsupported type: " + targetType.getName());
         }
+        return converter.tryConvert(value.trim());
+    }
 
-        // Enums
-        if (targetType.isEnum()) {
-            return convertToEnum(value, targetType);
+    /**
+     * Select the conversion for a target type once, for callers that convert many values
+     * of the same type. The returned function maps null or blank input to null and trims
+     * other input; it throws {@link IllegalArgumentException} for an unsupported type.
+     */
+    public Function<String, Object> converterFor(Class<?> targetType) {
+        ValueConverter<?> converter = converters.get(targetType);
+        if (converter == null) {
+            return value -> {
+                throw new IllegalArgumentException("Cannot convert value '" + value + "' to type " + targetType.getName());
+            };
         }
-
-        throw new IllegalArgumentException("Cannot convert value '" + value + "' to type " + targetType.getName());
+        return value -> value == null || value.isBlank() ? null : converter.convert(value.trim());
     }
 
     /**
-     * Convert a string to an enum constant.
+     * Select the non-throwing conversion for a target type once, like {@link #converterFor},
+     * for callers that report invalid values instead of failing on them. The returned function
+     * maps null or blank input to a successful null result and trims other input; for an
+     * unsupported type, every non-blank value fails.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private Object convertToEnum(String value, Class<?> enumClass) {
-        return Enum.valueOf((Class<Enum>) enumClass, value);
+    public Function<String, ConversionResult> tryConverterFor(Class<?> targetType) {
+        ValueConverter<?> converter = converters.get(targetType);
+        if (converter == null) {
+            ConversionResult unsupported = ConversionResult.failure("Unsupported type: " + targetType.getName());
+            return value -> value == null || value.isBlank() ? ConversionResult.success(null) : unsupported;
+        }
+        return value -> value == null || value.isBlank()
+                ? ConversionResult.success(null)
+                : converter.tryConvert(value.trim());
     }
 
     /**
      * Check if a value can be converted to the target type.
      */
     public boolean canConvert(Class<?> targetType) {
-        return targetType == String.class ||
-               targetType == Integer.class || targetType == int.class ||
-               targetType == Long.class || targetType == long.class ||
-               targetType == Double.class || targetType == double.class ||
-               targetType == Float.class || targetType == float.class ||
-               targetType == Boolean.class || targetType == boolean.class ||
-               targetType == BigDecimal.class ||
-               targetType == LocalDate.class ||
-               targetType == LocalDateTime.class ||
-               targetType == Date.class ||
-               targetType == java.sql.Date.class ||
-               targetType == java.sql.Timestamp.class ||
-               targetType.isEnum();
+        return converters.get(targetType) != null;
+    }
+
+    private ValueConverter<?> requireConverter(Class<?> targetType) {
+        ValueConverter<?> converter = converters.get(targetType);
+        if (converter == null) {
+            throw new IllegalArgumentException("Cannot convert to type " + targetType.getName());
+        }
+        return converter;
+    }
+
+    /**
+     * Find the converter of a type: a registered one (primitives use their wrapper's),
+     * or a generated one for enums. Returns null for unsupported types.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ValueConverter<?> resolveConverter(Class<?> targetType) {
+        ValueConverter<?> converter = registered.get(ClassUtils.resolvePrimitiveIfNecessary(targetType));
+        if (converter != null) {
+            return converter;
+        }
+        if (targetType.isEnum()) {
+            return StandardConverters.forEnum((Class<Enum>) targetType);
+        }
+        return null;
     }
 }
@@ -0,0 +1,40 @@
+package io.xcodebn.zounadminspring.web;
+
+/**
+ * Converts form and import values to one target type.
+ * Register an implementation as a bean to support a new field type, or to replace the
+ * built-in conversion of a type; {@link TypeConverter} picks it up by {@link #getTargetType()}.
+ *
+ * @param <T> the target type
+ */
+public interface ValueConverter<T> {
+
+    /**
+     * Get the type this converter produces.
+     */
+    Class<T> getTargetType();
+
+    /**
+     * Convert a value.
+     *
+     * @param value trimmed, non-blank input
+     * @throws IllegalArgumentException if the value is not valid for the type
+     */
+    T convert(String value);
+
+    /**
+     * Convert a value, reporting invalid input as a failed result instead of an exception.
+     * Override this to validate without throwing.
+     *
+     * @param value trimmed, non-blank input
+     */
+    default ConversionResult tryConvert(String value) {
+        try {
+            return ConversionResult.success(convert(value));
+        } catch (RuntimeException e) {
+            return ConversionResult.failure(e.getMessage() != null
+                    ? e.getMessage()
+                    : "Invalid " + getTargetType().getSimpleName() + ": " + value);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package io.xcodebn.zounadminspring.config;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToOne;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Admin reads routed to a replica, with the primary and the replica as two separate H2
+ * databases holding the same rows with different values, so each response shows which one
+ * it was read from.
+ */
+@SpringBootTest(classes = ReplicaRoutingIntegrationTest.TestApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "zoun.admin.ui.enabled=true",
+        "zoun.admin.ui.dashboard-counts=false",
+        "zoun.admin.ui.lookup-concurrency=2",
+        "zoun.admin.ui.datasource.enabled=true",
+        "zoun.admin.ui.datasource.replica=true",
+        "zoun.admin.ui.datasource.url=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "zoun.admin.ui.datasource.maximum-pool-size=4",
+        "zoun.admin.ui.datasource.read-your-writes-window=1m"
+})
+@AutoConfigureMockMvc(addFilters = false)
+class ReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource primaryDataSource;
+
+    @BeforeEach
+    void loadData() {
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.execute("create table if not exists tag (id bigint primary key, name varchar(255))");
+        replica.execute("create table if not exists note (id bigint primary key, title varchar(255), "
+                        + "attachment blob, primary_tag_id bigint, secondary_tag_id bigint)");
+
+        loadData(new JdbcTemplate(primaryDataSource), "primary");
+        loadData(replica, "replica");
+    }
+
+    private static void loadData(JdbcTemplate jdbc, String database) {
+        jdbc.update("delete from note");
+        jdbc.update("delete from tag");
+        jdbc.update("insert into tag (id, name) values (1, ?)", "tag-a-on-" + database);
+        jdbc.update("insert into tag (id, name) values (2, ?)", "tag-b-on-" + database);
+        jdbc.update("insert into note (id, title, attachment, primary_tag_id, secondary_tag_id) values (1, ?, ?, 1, 2)",
+                    "note-on-" + database, ("attachment-on-" + database).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void listReadsTheReplica() throws Exception {
+        mockMvc.perform(get("/zoun-admin/models/Note"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("note-on-replica")))
+                .andExpect(content().string(not(containsString("note-on-primary"))));
+    }
+
+    @Test
+    void listAfterAWriteReadsThePrimary() throws Exception {
+        MockHttpSession session = write();
+
+        mockMvc.perform(get("/zoun-admin/models/Note").session(session))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("note-on-primary")))
+                .andExpect(content().string(not(containsString("note-on-replica"))));
+    }
+
+    @Test
+    void relationshipLabelsAfterAWriteAreReadFromThePrimary() throws Exception {
+        MockHttpSession session = write();
+
+        // Two lazy relationships, so the labels are read concurrently on other threads
+        mockMvc.perform(get("/zoun-admin/models/Note/edit/1").session(session))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("tag-a-on-primary")))
+                .andExpect(content().string(containsString("tag-b-on-primary")));
+    }
+
+    @Test
+    void relationshipLabelsReadTheReplica() throws Exception {
+        mockMvc.perform(get("/zoun-admin/models/Note/edit/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("tag-a-on-replica")))
+                .andExpect(content().string(containsString("tag-b-on-replica")));
+    }
+
+    @Test
+    void exportReadsTheReplica() throws Exception {
+        MvcResult result = mockMvc.perform(get("/zoun-admin/models/Note/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("note-on-replica")));
+    }
+
+    @Test
+    void exportAfterAWriteIsStreamedFromThePrimary() throws Exception {
+        MockHttpSession session = write();
+
+        MvcResult result = mockMvc.perform(get("/zoun-admin/models/Note/export").session(session))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("note-on-primary")))
+                .andExpect(content().string(not(containsString("note-on-replica"))));
+    }
+
+    @Test
+    void downloadReadsTheReplica() throws Exception {
+        MvcResult result = mockMvc.perform(get("/zoun-admin/models/Note/file/1/attachment"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes("attachment-on-replica".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void downloadAfterAWriteIsStreamedFromThePrimary() throws Exception {
+        MockHttpSession session = write();
+
+        MvcResult result = mockMvc.perform(get("/zoun-admin/models/Note/file/1/attachment").session(session))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes("attachment-on-primary".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Save a tag, starting the session's read-your-writes window.
+     */
+    private MockHttpSession write() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        mockMvc.perform(post("/zoun-admin/models/Tag/save").session(session)
+                                .param("id", "3")
+                                .param("name", "tag-c"))
+                .andExpect(status().is3xxRedirection());
+        return session;
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableJpaRepositories(considerNestedRepositories = true, basePackageClasses = ReplicaRoutingIntegrationTest.class)
+    static class TestApplication {
+    }
+
+    @Entity(name = "Tag")
+    public static class Tag {
+
+        @Id
+        private Long id;
+
+        private String name;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    @Entity(name = "Note")
+    public static class Note {
+
+        @Id
+        private Long id;
+
+        private String title;
+
+        @Lob
+        private byte[] attachment;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        private Tag primaryTag;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        private Tag secondaryTag;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public byte[] getAttachment() {
+            return attachment;
+        }
+
+        public void setAttachment(byte[] attachment) {
+            this.attachment = attachment;
+        }
+
+        public Tag getPrimaryTag() {
+            return primaryTag;
+        }
+
+        public void setPrimaryTag(Tag primaryTag) {
+            this.primaryTag = primaryTag;
+        }
+
+        public Tag getSecondaryTag() {
+            return secondaryTag;
+        }
+
+        public void setSecondaryTag(Tag secondaryTag) {
+            this.secondaryTag = secondaryTag;
+        }
+    }
+
+    public interface TagRepository extends JpaRepository<Tag, Long> {
+    }
+
+    public interface NoteRepository extends JpaRepository<Note, Long> {
+    }
+}
@@ -0,0 +1,141 @@
+plugins {
+    java
+    id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+group = "io.xcodebn.benchmarks"
+version = "0.0.1-SNAPSHOT"
+
+// Prevent this benchmark module from being published to Maven Central
+tasks.withType<PublishToMavenRepository> {
+    enabled = false
+}
+
+tasks.withType<PublishToMavenLocal> {
+    enabled = false
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+}
+
+tasks.withType<JavaCompile> {
+    options.compilerArgs.add("-parameters")
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:3.3.0")
+    }
+}
+
+// The demo depends on the published library; benchmark the library in this build instead
+configurations.all {
+    resolutionStrategy.dependencySubstitution {
+        substitute(module("io.github.xcodebn:zoun-admin-spring")).using(project(":"))
+    }
+}
+
+dependencies {
+    jmh(project(":"))
+    jmh(project(":zoun-admin-demo"))
+
+    jmh("org.springframework.boot:spring-boot-starter-data-jpa")
+    jmh("org.springframework.boot:spring-boot-starter-web")
+    jmh("org.springframework.boot:spring-boot-starter-thymeleaf")
+    jmh("org.springframework.boot:spring-boot-starter-security")
+    jmh("org.springframework.boot:spring-boot-starter-validation")
+    jmh("org.springframework:spring-test")
+    jmh("com.h2database:h2")
+}
+
+jmh {
+    jmhVersion = "1.37"
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    // e.g. ./gradlew :zoun-admin-benchmarks:jmh -PjmhIncludes=TypeConverter
+    if (project.hasProperty("jmhIncludes")) {
+        includes = listOf(project.property("jmhIncludes").toString())
+    }
+}
+
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaselineFile = layout.projectDirectory.file("baselines/results.json")
+
+// Record the latest results as the committed baseline
+tasks.register<Copy>("jmhBaseline") {
+    description = "Copies the latest JMH results to baselines/results.json"
+    from(jmhResults)
+    into(layout.projectDirectory.dir("baselines"))
+}
+
+// Fail when throughput drops, or normalized allocation grows, beyond the tolerance
+tasks.register("jmhCompare") {
+    description = "Compares the latest JMH results with baselines/results.json"
+    val tolerance = (project.findProperty("jmhTolerance") ?: "0.10").toString().toDouble()
+    val resultsFile = jmhResults.get().asFile
+    val baselineFile = jmhBaselineFile.asFile
+    doLast {
+        if (!baselineFile.exists()) {
+            throw GradleException("No baseline at $baselineFile; run jmh then jmhBaseline to record one")
+        }
+        if (!resultsFile.exists()) {
+            throw GradleException("No JMH results at $resultsFile; run jmh before jmhCompare")
+        }
+
+        fun load(file: File): Map<String, Map<String, Any?>> {
+            @Suppress("UNCHECKED_CAST")
+            val runs = groovy.json.JsonSlurper().parse(file) as List<Map<String, Any?>>
+            return runs.associateBy { run ->
+                @Suppress("UNCHECKED_CAST")
+                val params = (run["params"] as Map<String, Any?>?)?.entries?.joinToString(",") { "${it.key}=${it.value}" }
+                if (params.isNullOrEmpty()) run["benchmark"].toString() else "${run["benchmark"]}($params)"
+            }
+        }
+
+        fun score(metric: Any?): Double? {
+            @Suppress("UNCHECKED_CAST")
+            return ((metric as Map<String, Any?>?)?.get("score") as Number?)?.toDouble()
+        }
+
+        val baseline = load(baselineFile)
+        val results = load(resultsFile)
+        if (results.keys.none { it in baseline }) {
+            throw GradleException("None of the benchmarks in $resultsFile are in the baseline; record a new one with jmhBaseline")
+        }
+        val regressions = mutableListOf<String>()
+        for ((name, run) in results) {
+            val reference = baseline[name] ?: continue
+
+            val throughput = score(run["primaryMetric"])
+            val baselineThroughput = score(reference["primaryMetric"])
+            if (throughput != null && baselineThroughput != null && throughput < baselineThroughput * (1 - tolerance)) {
+                regressions += "$name: throughput %.1f -> %.1f".format(baselineThroughput, throughput)
+            }
+
+            @Suppress("UNCHECKED_CAST")
+            val allocation = score((run["secondaryMetrics"] as Map<String, Any?>?)?.get("gc.alloc.rate.norm"))
+            @Suppress("UNCHECKED_CAST")
+            val baselineAllocation = score((reference["secondaryMetrics"] as Map<String, Any?>?)?.get("gc.alloc.rate.norm"))
+            if (allocation != null && baselineAllocation != null && allocation > baselineAllocation * (1 + tolerance) + 16) {
+                regressions += "$name: allocation %.0f -> %.0f B/op".format(baselineAllocation, allocation)
+            }
+        }
+
+        if (regressions.isNotEmpty()) {
+            throw GradleException("JMH regressions beyond ${(tolerance * 100).toInt()}%:\n" + regressions.joinToString("\n"))
+        }
+        logger.lifecycle("No JMH regressions beyond {}% against the baseline", (tolerance * 100).toInt())
+    }
+}
@@ -0,0 +1,69 @@
+package io.xcodebn.zounadminspring.benchmarks;
+
+import io.xcodebn.demo.entity.Category;
+import io.xcodebn.demo.entity.Department;
+import io.xcodebn.demo.entity.Employee;
+import io.xcodebn.demo.entity.EmploymentType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Demo entities and form submissions shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static Department department() {
+        Department department = new Department("Engineering", "Software development and IT infrastructure");
+        department.setId(1L);
+        return department;
+    }
+
+    static Category category() {
+        Category category = new Category("Electronics", "Electronic devices and accessories");
+        category.setId(1L);
+        return category;
+    }
+
+    static Employee employee(int index, Department department) {
+        return new Employee(
+                "First" + index, "Last" + index, "employee" + index + "@example.com",
+                LocalDate.of(1990, 1, 1).plusDays(index % 3650), 30,
+                new BigDecimal("50000.00").add(BigDecimal.valueOf(index)),
+                department, EmploymentType.FULL_TIME);
+    }
+
+    static Map<String, String> employeeForm() {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("firstName", "Jane");
+        form.put("lastName", "Smith");
+        form.put("email", "jane.smith@example.com");
+        form.put("birthDate", "1992-08-22");
+        form.put("age", "31");
+        form.put("salary", "85000.00");
+        form.put("department", "1");
+        form.put("employmentType", "FULL_TIME");
+        form.put("status", "ACTIVE");
+        form.put("hireDate", "2020-03-01T09:00:00");
+        form.put("notes", "Senior engineer");
+        return form;
+    }
+
+    static Map<String, String> productForm() {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("name", "Laptop");
+        form.put("description", "High-performance laptop");
+        form.put("price", "1299.99");
+        form.put("stock", "50");
+        form.put("sku", "LAP-001");
+        form.put("category", "1");
+        form.put("active", "on");
+        form.put("createdAt", "2024-01-15T10:30:00");
+        return form;
+    }
+}
@@ -0,0 +1,51 @@
+package io.xcodebn.zounadminspring.benchmarks;
+
+import io.xcodebn.demo.DemoApplication;
+import io.xcodebn.demo.entity.Department;
+import io.xcodebn.demo.entity.Employee;
+import io.xcodebn.demo.repository.DepartmentRepository;
+import io.xcodebn.demo.repository.EmployeeRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts the demo application on an in-memory database of its own, with quiet logging and a random port.
+ */
+final class DemoContext {
+
+    private DemoContext() {
+    }
+
+    /**
+     * Start the demo application with the given list page size and seed that many extra employees.
+     *
+     * @param properties further application properties, as {@code key=value}
+     */
+    static ConfigurableApplicationContext start(String name, int employees, String... properties) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .properties(properties)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + name,
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "server.port=0",
+                        "logging.level.root=WARN",
+                        "logging.level.io.xcodebn=WARN",
+                        "logging.level.org.springframework.security=WARN",
+                        "zoun.admin.ui.page-size=" + Math.max(employees, 1))
+                .run();
+
+        if (employees > 0) {
+            Department department = context.getBean(DepartmentRepository.class).findAll().get(0);
+            List<Employee> batch = new ArrayList<>(employees);
+            for (int i = 0; i < employees; i++) {
+                batch.add(BenchmarkData.employee(i, department));
+            }
+            context.getBean(EmployeeRepository.class).saveAll(batch);
+        }
+        return context;
+    }
+}
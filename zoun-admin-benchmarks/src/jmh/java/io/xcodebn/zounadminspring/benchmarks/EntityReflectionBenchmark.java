@@ -0,0 +1,72 @@
+package io.xcodebn.zounadminspring.benchmarks;
+
+import io.xcodebn.demo.entity.Employee;
+import io.xcodebn.demo.entity.Product;
+import io.xcodebn.zounadminspring.core.EntityReflectionService;
+import io.xcodebn.zounadminspring.core.FieldMetadata;
+import io.xcodebn.zounadminspring.util.ReflectionHelper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity inspection and field reads, the per-request and per-cell costs of every admin page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EntityReflectionBenchmark {
+
+    private EntityReflectionService reflectionService;
+    private ReflectionHelper reflectionHelper;
+    private Employee employee;
+    private List<String> employeeFields;
+
+    @Setup
+    public void setUp() {
+        reflectionService = new EntityReflectionService();
+        reflectionHelper = new ReflectionHelper();
+        reflectionService.inspect(Employee.class);
+        reflectionService.inspect(Product.class);
+
+        employee = BenchmarkData.employee(1, BenchmarkData.department());
+        employee.setId(1L);
+        employeeFields = reflectionService.getMetadata(Employee.class).listFields().stream()
+                .map(FieldMetadata::name)
+                .toList();
+    }
+
+    /**
+     * Cached metadata lookup, as done on every request.
+     */
+    @Benchmark
+    public List<FieldMetadata> inspectCached() {
+        return reflectionService.inspect(Employee.class);
+    }
+
+    /**
+     * Metadata built from scratch, as on first access or after a dev-time reload.
+     */
+    @Benchmark
+    public List<FieldMetadata> inspectCold() {
+        reflectionService.invalidate(Employee.class);
+        return reflectionService.inspect(Employee.class);
+    }
+
+    /**
+     * One list row: every list column of an employee.
+     */
+    @Benchmark
+    public void getFieldValueRow(Blackhole blackhole) {
+        for (String field : employeeFields) {
+            blackhole.consume(reflectionHelper.getFieldValue(employee, field));
+        }
+    }
+
+    @Benchmark
+    public Object getFieldValueSingle() {
+        return reflectionHelper.getFieldValue(employee, "salary");
+    }
+}
@@ -0,0 +1,56 @@
+package io.xcodebn.zounadminspring.benchmarks;
+
+import io.xcodebn.demo.entity.Category;
+import io.xcodebn.demo.entity.Department;
+import io.xcodebn.demo.entity.Employee;
+import io.xcodebn.demo.entity.Product;
+import io.xcodebn.zounadminspring.web.FormDataBinder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binding a create form submission onto a new demo entity.
+ * Relationships resolve to a prepared entity, so the numbers exclude database access.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FormDataBinderBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private FormDataBinder formDataBinder;
+    private FormDataBinder.RelationshipResolver resolver;
+    private Map<String, String> employeeForm;
+    private Map<String, String> productForm;
+
+    @Setup
+    public void setUp() {
+        context = DemoContext.start("bind", 0);
+        formDataBinder = context.getBean(FormDataBinder.class);
+
+        Department department = BenchmarkData.department();
+        Category category = BenchmarkData.category();
+        resolver = (targetModel, id) -> targetModel.entityClass() == Department.class ? department : category;
+
+        employeeForm = BenchmarkData.employeeForm();
+        productForm = BenchmarkData.productForm();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Employee bindEmployee() throws Exception {
+        return formDataBinder.bind(employeeForm, null, null, Employee.class, resolver);
+    }
+
+    @Benchmark
+    public Product bindProduct() throws Exception {
+        return formDataBinder.bind(productForm, null, null, Product.class, resolver);
+    }
+}
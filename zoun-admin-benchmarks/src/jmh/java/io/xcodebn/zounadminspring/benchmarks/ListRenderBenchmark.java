@@ -0,0 +1,61 @@
+package io.xcodebn.zounadminspring.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * A full list page request for the demo {@code Employee} model: query, model building and
+ * {@code list.html} render. The page size equals the number of seeded rows.
+ * Rows are read as projected tuples, as read-only entities, or as entities from a stateless session.
+ * Security filters are not applied, only the admin controller and view.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ListRenderBenchmark {
+
+    @Param({"20", "100", "500"})
+    public int rows;
+
+    @Param({"projection", "entities", "stateless-entities"})
+    public String reads;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = DemoContext.start("list" + rows + reads, rows,
+                                    "zoun.admin.ui.list-projection=" + reads.equals("projection"),
+                                    "zoun.admin.ui.stateless-reads=" + reads.startsWith("stateless"));
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+
+        // Fail fast rather than measure an error page
+        int status = perform().getResponse().getStatus();
+        if (status != 200) {
+            throw new IllegalStateException("List page returned HTTP " + status);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String renderList() throws Exception {
+        return perform().getResponse().getContentAsString();
+    }
+
+    private MvcResult perform() throws Exception {
+        return mockMvc.perform(get("/zoun-admin/models/Employee")).andReturn();
+    }
+}
@@ -0,0 +1,76 @@
+package io.xcodebn.zounadminspring.benchmarks;
+
+import io.xcodebn.demo.entity.EmploymentType;
+import io.xcodebn.zounadminspring.web.TypeConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Form value conversion, run once per submitted field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TypeConverterBenchmark {
+
+    @Param({"String", "Integer", "Long", "Short", "Byte", "Double", "Float", "Boolean", "Character",
+            "BigDecimal", "UUID", "LocalDate", "LocalDateTime", "Instant", "OffsetDateTime", "Date", "SqlDate",
+            "Timestamp", "Enum"})
+    public String type;
+
+    private TypeConverter typeConverter;
+    private Class<?> targetType;
+    private String value;
+
+    @Setup
+    public void setUp() {
+        typeConverter = new TypeConverter(List.of());
+        switch (type) {
+            case "String" -> use(String.class, "Jane Smith");
+            case "Integer" -> use(Integer.class, "42");
+            case "Long" -> use(Long.class, "1234567890");
+            case "Short" -> use(Short.class, "1024");
+            case "Byte" -> use(Byte.class, "42");
+            case "Double" -> use(Double.class, "3.14159");
+            case "Float" -> use(Float.class, "2.5");
+            case "Boolean" -> use(Boolean.class, "on");
+            case "Character" -> use(Character.class, "M");
+            case "BigDecimal" -> use(BigDecimal.class, "85000.00");
+            case "UUID" -> use(UUID.class, "3f2504e0-4f89-11d3-9a0c-0305e82c3301");
+            case "LocalDate" -> use(LocalDate.class, "1992-08-22");
+            case "LocalDateTime" -> use(LocalDateTime.class, "2020-03-01T09:00:00");
+            case "Instant" -> use(Instant.class, "2020-03-01T09:00:00Z");
+            case "OffsetDateTime" -> use(OffsetDateTime.class, "2020-03-01T09:00:00+01:00");
+            case "Date" -> use(Date.class, "1992-08-22");
+            case "SqlDate" -> use(java.sql.Date.class, "1992-08-22");
+            case "Timestamp" -> use(Timestamp.class, "2020-03-01T09:00:00");
+            case "Enum" -> use(EmploymentType.class, "CONTRACT");
+            default -> throw new IllegalArgumentException("Unknown type: " + type);
+        }
+    }
+
+    private void use(Class<?> targetType, String value) {
+        this.targetType = targetType;
+        this.value = value;
+    }
+
+    @Benchmark
+    public Object convert() {
+        return typeConverter.convert(value, targetType);
+    }
+
+    @Benchmark
+    public Object tryConvert() {
+        return typeConverter.tryConvert(value, targetType);
+    }
+}
@@ -0,0 +1,60 @@
+package io.xcodebn.demo.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Stands in for a read replica in the {@code replica} profile: once the sample data is loaded,
+ * copies the demo database into a second in-memory database, which admin reads then use.
+ * The copy is never updated, like a replica that stopped replicating, so a change made in the
+ * admin shows for {@code read-your-writes-window} after it and then disappears from the lists.
+ */
+@Component
+@Profile("replica")
+public class ReplicaSnapshot implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaSnapshot.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String replicaUrl;
+    private final String username;
+    private final String password;
+
+    public ReplicaSnapshot(DataSource dataSource,
+                           @Value("${zoun.admin.ui.datasource.url}") String replicaUrl,
+                           @Value("${spring.datasource.username}") String username,
+                           @Value("${spring.datasource.password}") String password) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.replicaUrl = replicaUrl;
+        this.username = username;
+        this.password = password;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        // H2's SCRIPT returns the DDL and data of the whole database, one statement per row
+        List<String> statements = jdbcTemplate.queryForList("SCRIPT", String.class);
+        try (Connection connection = DriverManager.getConnection(replicaUrl, username, password);
+             Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to copy the demo database to the replica", e);
+        }
+        log.info("Copied the demo database to the replica {} ({} statements)", replicaUrl, statements.size());
+    }
+}